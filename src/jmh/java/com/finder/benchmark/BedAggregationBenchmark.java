@@ -0,0 +1,156 @@
+package com.finder.benchmark;
+
+import com.finder.domain.Bed;
+import com.finder.domain.BedRollup;
+import com.finder.tracker.BedRingBuffer;
+import com.finder.tracker.BedRollupAggregator;
+import com.finder.tracker.BedSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+@State(Scope.Benchmark)
+public class BedAggregationBenchmark { // 최근 2시간 병상 수 15분 구간 집계 벤치마크 (기존 구현, 수집 경로 집계 조회, 원본 데이터 대체 경로)
+    private static final long HOSPITAL = 1L;
+
+    private static final int QUARTERS = 8;
+
+    // 분 단위 데이터 누락 비율 (%)
+    @Param({"0", "5"})
+    private int gapPercent;
+
+    private int[] minutes;
+
+    private int[] counts;
+
+    private int size;
+
+    private int fromQuarter;
+
+    // 변경 전 엔티티 형태 (저장된 시각, 박싱 병상 수)
+    private List<LegacyBed> legacyBeds;
+
+    private BedRollupAggregator bedRollupAggregator;
+
+    private final int[] boundaryCounts = new int[QUARTERS];
+
+    private final int[] availableMinutes = new int[QUARTERS];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        int currentMinute = Bed.toEpochMinute(LocalDateTime.now()) - 1;
+        fromQuarter = BedRollup.bucketOf(currentMinute, BedRollup.QUARTER) - QUARTERS * BedRollup.QUARTER;
+
+        // 2시간(+ 누락 보정 범위) 분 단위 시계열, 시간 순 오름차순
+        int fromMinute = fromQuarter - BedRingBuffer.CARRY_MINUTES;
+        int toMinute = fromQuarter + QUARTERS * BedRollup.QUARTER - 1;
+        minutes = new int[toMinute - fromMinute + 1];
+        counts = new int[minutes.length];
+        legacyBeds = new ArrayList<>(minutes.length);
+        bedRollupAggregator = new BedRollupAggregator(null, null);
+        for (int minute = fromMinute; minute <= toMinute; minute++) {
+            if (random.nextInt(100) < gapPercent) continue;
+            minutes[size] = minute;
+            counts[size] = random.nextInt(10) - 1;
+            legacyBeds.add(new LegacyBed(Bed.toLocalDateTime(minute), counts[size]));
+            bedRollupAggregator.add(HOSPITAL, minute, counts[size]);
+            size++;
+        }
+        // 마지막 15분 구간 마감
+        bedRollupAggregator.add(HOSPITAL, toMinute + 1, 0);
+        bedRollupAggregator.drainClosed();
+    }
+
+    // 기준: 변경 전 BedService.findByRecent 의 정렬 + getTotalMinute + getBedIntervalList
+    @Benchmark
+    public int legacyFindByRecent() {
+        List<LegacyBed> beds = new ArrayList<>(legacyBeds);
+        Collections.sort(beds, (LegacyBed o1, LegacyBed o2) -> o1.localDateTime.compareTo(o2.localDateTime));
+
+        Integer totalMinute = getTotalMinute(beds);
+        List<Integer> bedIntervalList = getBedIntervalList(beds);
+
+        return totalMinute + bedIntervalList.size();
+    }
+
+    // 수집 경로에서 갱신된 15분 구간 집계 조회 (BedService.findByRecent 기본 경로)
+    @Benchmark
+    public int rollupFindQuarters() {
+        return bedRollupAggregator.findQuarters(HOSPITAL, fromQuarter, QUARTERS, boundaryCounts, availableMinutes);
+    }
+
+    // 원본 분 단위 데이터 집계 (집계 누락 시 대체 경로)
+    @Benchmark
+    public int rawAggregateQuarters() {
+        return BedSeries.aggregateQuarters(minutes, counts, size, fromQuarter, QUARTERS, boundaryCounts, availableMinutes);
+    }
+
+    // 변경 전 BedService.getTotalMinute 구현
+    private static Integer getTotalMinute(List<LegacyBed> twoAgoBeds) {
+        Integer totalMinute = 0;
+        Integer size = twoAgoBeds.size();
+        LocalDateTime oneMinuteAgo = (size > 0) ? twoAgoBeds.get(0).localDateTime.minusMinutes(1) : null;
+
+        for (int i = 0; i < size; i++) {
+            LegacyBed bed = twoAgoBeds.get(i);
+            if (localDateTimeEq(bed.localDateTime, oneMinuteAgo.plusMinutes(1)) && bed.count > 0) {
+                totalMinute += 1;
+            } else if (i - 1 > 0) {
+                if (twoAgoBeds.get(i - 1).count > 0) totalMinute += 1;
+                if (bed.count > 0) totalMinute += 1;
+            }
+            oneMinuteAgo = bed.localDateTime;
+        }
+
+        return totalMinute;
+    }
+
+    // 변경 전 BedService.getBedIntervalList 구현
+    private static List<Integer> getBedIntervalList(List<LegacyBed> twoAgoBeds) {
+        LocalDateTime currentTime = (twoAgoBeds.size() > 0) ? twoAgoBeds.get(0).localDateTime : null;
+        Integer size = twoAgoBeds.size();
+        List<Integer> bedIntervalList = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            LegacyBed bed = twoAgoBeds.get(i);
+            LocalDateTime oneMinuteAgo = bed.localDateTime.minusMinutes(1);
+
+            if (localDateTimeEq(oneMinuteAgo, currentTime)) {
+                if ((i - 1 >= 0) && localDateTimeEq(twoAgoBeds.get(i - 1).localDateTime, oneMinuteAgo.minusMinutes(1))) {
+                    bedIntervalList.add(Math.max(0, twoAgoBeds.get(i - 1).count));
+                } else bedIntervalList.add(0);
+                currentTime = currentTime.plusMinutes(15);
+            }
+
+            if (localDateTimeEq(bed.localDateTime, currentTime)) {
+                bedIntervalList.add(Math.max(0, bed.count));
+                currentTime = currentTime.plusMinutes(15);
+            }
+        }
+
+        return bedIntervalList;
+    }
+
+    private static Boolean localDateTimeEq(LocalDateTime t1, LocalDateTime t2) {
+        return (t1.getHour() == t2.getHour() && t1.getMinute() == t2.getMinute()) ? true : false;
+    }
+
+    private static class LegacyBed {
+        private final LocalDateTime localDateTime;
+
+        private final Integer count;
+
+        private LegacyBed(LocalDateTime localDateTime, Integer count) {
+            this.localDateTime = localDateTime;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.finder.benchmark;
+
+import com.finder.domain.Hospital;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class BenchmarkData { // 벤치마크용 고정 시드 데이터 생성
+    // 서울 시청 좌표 (조회 기준 위치)
+    public static final double SEOUL_LAT = 37.5665;
+    public static final double SEOUL_LON = 126.9780;
+
+    private BenchmarkData() {
+    }
+
+    // 전국 분포 병원 생성 (절반은 수도권 밀집, 나머지는 전국 균등 분포)
+    public static List<Hospital> hospitals(int count, long seed) {
+        Random random = new Random(seed);
+        List<Hospital> hospitals = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            double lat;
+            double lon;
+            if (random.nextBoolean()) {
+                lat = SEOUL_LAT + random.nextGaussian() * 0.15;
+                lon = SEOUL_LON + random.nextGaussian() * 0.2;
+            } else {
+                lat = 33.2 + random.nextDouble() * 5.3;
+                lon = 126.1 + random.nextDouble() * 3.3;
+            }
+
+            hospitals.add(Hospital.builder()
+                    .id((long) i + 1)
+                    .name("병원" + i)
+                    .address("주소" + i)
+                    .representativeContact("02-000-" + i)
+                    .emergencyContact("02-119-" + i)
+                    .ambulance(random.nextBoolean() ? "Y" : "N")
+                    .ct(random.nextBoolean() ? "Y" : "N")
+                    .mri(random.nextBoolean() ? "Y" : "N")
+                    .latitude(lat)
+                    .longitude(lon)
+                    .build());
+        }
+
+        return hospitals;
+    }
+
+    // 녹화된 item 템플릿을 rows 건 반복한 공공데이터 API 응답 생성
+    public static String xmlResponse(String itemFixture, int rows, long seed) {
+        return xmlPage(itemFixture, 1, rows, rows, seed);
+    }
+
+    // 전체 totalCount 건 중 pageNo 페이지 (페이지당 numOfRows 건) 공공데이터 API 응답 생성
+    public static String xmlPage(String itemFixture, int pageNo, int numOfRows, int totalCount, long seed) {
+        String template = readFixture(itemFixture);
+        Random random = new Random(seed);
+        int offset = (pageNo - 1) * numOfRows;
+        int rows = Math.max(0, Math.min(numOfRows, totalCount - offset));
+        StringBuilder sb = new StringBuilder(template.length() * rows + 512);
+
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+        sb.append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header><body><items>");
+        for (int i = offset; i < offset + rows; i++) {
+            sb.append(template
+                    .replace("{index}", String.valueOf(i))
+                    .replace("{tel}", String.format("%04d", i % 10000))
+                    .replace("{hvec}", String.valueOf(random.nextInt(30) - 2))
+                    .replace("{lat}", String.valueOf(33.2 + random.nextDouble() * 5.3))
+                    .replace("{lon}", String.valueOf(126.1 + random.nextDouble() * 3.3)));
+        }
+        sb.append("</items><numOfRows>").append(numOfRows).append("</numOfRows><pageNo>").append(pageNo).append("</pageNo><totalCount>")
+                .append(totalCount).append("</totalCount></body></response>");
+
+        return sb.toString();
+    }
+
+    private static String readFixture(String name) {
+        try (InputStream in = BenchmarkData.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) throw new IllegalStateException("fixture 없음: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
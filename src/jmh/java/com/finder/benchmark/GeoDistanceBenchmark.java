@@ -0,0 +1,73 @@
+package com.finder.benchmark;
+
+import com.finder.geo.GeoDistance;
+import com.finder.snapshot.HospitalSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+public class GeoDistanceBenchmark { // 박싱 거리 계산 대비 배열 기반 거리 계산 벤치마크
+    @Param({"400", "40000"})
+    private int hospitalCount;
+
+    private double[] latitudes;
+
+    private double[] longitudes;
+
+    private int[] all;
+
+    // 재사용 출력 버퍼
+    private double[] distances;
+
+    private int[] nearbyIndexes;
+
+    @Setup
+    public void setup() {
+        HospitalSnapshot snapshot = HospitalSnapshot.of(1, BenchmarkData.hospitals(hospitalCount, 42));
+        latitudes = snapshot.getLatitudes();
+        longitudes = snapshot.getLongitudes();
+        all = IntStream.range(0, hospitalCount).toArray();
+        distances = new double[hospitalCount];
+        nearbyIndexes = new int[hospitalCount];
+    }
+
+    // 기준: 기존 박싱 Double 구현으로 전체 후보 거리 계산
+    @Benchmark
+    public double boxedAll() {
+        double sum = 0;
+        for (int i = 0; i < hospitalCount; i++) {
+            sum += boxedHaversine(BenchmarkData.SEOUL_LAT, BenchmarkData.SEOUL_LON, latitudes[i], longitudes[i]);
+        }
+        return sum;
+    }
+
+    // 배열 기반 일괄 거리 계산 (재사용 버퍼 기록)
+    @Benchmark
+    public double[] kernelAll() {
+        GeoDistance.distances(BenchmarkData.SEOUL_LAT, BenchmarkData.SEOUL_LON, latitudes, longitudes, all, hospitalCount, distances);
+        return distances;
+    }
+
+    // 경계 상자 사전 필터 + 5km 반경 필터
+    @Benchmark
+    public int kernelFilterWithinRadius() {
+        return GeoDistance.filterWithinRadius(BenchmarkData.SEOUL_LAT, BenchmarkData.SEOUL_LON, 5000, latitudes, longitudes,
+                all, hospitalCount, nearbyIndexes, distances);
+    }
+
+    // 변경 전 HospitalService.calculateStraightDistance 구현
+    private static double boxedHaversine(Double lat1, Double lon1, Double lat2, Double lon2) {
+        Double earthRadius = 6371.;
+        Double dLat = Math.toRadians(lat2 - lat1);
+        Double dLon = Math.toRadians(lon2 - lon1);
+        Double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        Double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        Double distance = earthRadius * c * 1000;
+
+        return distance;
+    }
+}
@@ -0,0 +1,61 @@
+package com.finder.benchmark;
+
+import com.finder.domain.Hospital;
+import com.finder.geo.GeoDistance;
+import com.finder.snapshot.HospitalSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+public class NearbyHospitalBenchmark { // 직선 거리 계산, 5km 반경 필터 벤치마크 (HospitalService 와 같은 GeoDistance, 격자 인덱스 경로)
+    // HospitalService 의 주변 병원 조회 반경 (m)
+    private static final double RADIUS = 5000.;
+
+    @Param({"400", "4000", "40000"})
+    private int hospitalCount;
+
+    private List<Hospital> hospitals;
+
+    private HospitalSnapshot snapshot;
+
+    // 재사용 출력 버퍼
+    private int[] nearbyIndexes;
+
+    private double[] distances;
+
+    @Setup
+    public void setup() {
+        hospitals = BenchmarkData.hospitals(hospitalCount, 42);
+        snapshot = HospitalSnapshot.of(1, hospitals);
+        nearbyIndexes = new int[hospitalCount];
+        distances = new double[hospitalCount];
+    }
+
+    // 직선 거리 계산 1회
+    @Benchmark
+    public double straightDistance() {
+        return GeoDistance.haversine(BenchmarkData.SEOUL_LAT, BenchmarkData.SEOUL_LON, 37.4837, 126.9271);
+    }
+
+    // 기존 방식: 전체 병원 대상 직선 거리 필터
+    @Benchmark
+    public void nearbyFullScan(Blackhole blackhole) {
+        blackhole.consume(hospitals.stream()
+                .filter(h -> GeoDistance.haversine(BenchmarkData.SEOUL_LAT, BenchmarkData.SEOUL_LON, h.getLatitude(), h.getLongitude()) <= RADIUS)
+                .collect(Collectors.toList()));
+    }
+
+    // 스냅샷 격자 인덱스로 후보 조회 후 반경 필터
+    @Benchmark
+    public int nearbyGrid() {
+        int[] candidates = snapshot.getGridIndex().findCandidates(BenchmarkData.SEOUL_LAT, BenchmarkData.SEOUL_LON, RADIUS);
+        return GeoDistance.filterWithinRadius(BenchmarkData.SEOUL_LAT, BenchmarkData.SEOUL_LON, RADIUS,
+                snapshot.getLatitudes(), snapshot.getLongitudes(), candidates, candidates.length, nearbyIndexes, distances);
+    }
+}
@@ -0,0 +1,249 @@
+package com.finder.replay;
+
+import com.finder.FinderApplication;
+import com.finder.snapshot.HospitalSnapshot;
+import com.finder.snapshot.HospitalSnapshotHolder;
+import com.finder.tracker.BedTracker;
+import com.finder.util.RedisUtil;
+import com.finder.xml.XmlService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ReplayLoadDriver { // 재생 서버 기반 수집, /api/hospitals/* 종단 간 처리량, 지연 측정
+    private static final String ACCESS_HEADER = "Authorization";
+
+    private static final String EMAIL = "load@finder.test";
+
+    private static final String PASSWORD = "replay-load";
+
+    private ReplayLoadDriver() {
+    }
+
+    // 실행: ./gradlew replayLoad [-Preplay.load.threads=32 -Preplay.route.latency=50 -Preplay.data.error-rate=0.05 ...]
+    public static void main(String[] args) throws Exception {
+        try (ReplayServer replayServer = ReplayServer.start(ReplayServer.Config.fromSystemProperties())) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(FinderApplication.class)
+                    .properties(applicationProperties(replayServer.getBaseUrl()))
+                    .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new RedisBypass()))
+                    .run();
+            try {
+                measureIngestion(context);
+                measureApi(context);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    // 외부 API 주소를 재생 서버로 지정, DB 는 H2 메모리, 정기 작업은 직접 호출하므로 비활성화
+    private static Map<String, Object> applicationProperties(String baseUrl) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:replay;DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.redis.host", "localhost");
+        properties.put("spring.redis.port", 6379);
+        properties.put("api.key", "replay");
+        properties.put("api.base-url", baseUrl + ReplayServer.DATA_PREFIX);
+        properties.put("kakao.key", "replay");
+        properties.put("kakao.base-url", baseUrl);
+        properties.put("jwt.secretKey", "replay-load-driver-secret-key");
+        properties.put("jwt.access.expiration", 3600000);
+        properties.put("jwt.refresh.expiration", 3600000);
+        properties.put("jwt.access.header", ACCESS_HEADER);
+        properties.put("jwt.refresh.header", "Authorization-refresh");
+        properties.put("bed.tracker.cron", "-");
+        // 병원 기본 정보 동기화는 아래에서 직접 호출하여 측정
+        properties.put("ingest.hospitals.enabled", "false");
+        properties.put("bed.retention.cron", "-");
+        properties.put("logging.level.root", "WARN");
+
+        return properties;
+    }
+
+    // 기본 정보 동기화 (실시간 + 기본정보 API), 병상 수 수집 1회 소요 시간
+    private static void measureIngestion(ConfigurableApplicationContext context) throws Exception {
+        XmlService xmlService = context.getBean(XmlService.class);
+        BedTracker bedTracker = context.getBean(BedTracker.class);
+        int iterations = Integer.getInteger("replay.ingest.iterations", 5);
+
+        long[] syncNanos = new long[iterations];
+        long[] trackNanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            xmlService.callApi1();
+            xmlService.callApi2();
+            syncNanos[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            bedTracker.track();
+            trackNanos[i] = System.nanoTime() - start;
+        }
+
+        System.out.println();
+        System.out.println("== 수집 (" + iterations + "회) ==");
+        printLatency("기본 정보 동기화", syncNanos, syncNanos.length);
+        printLatency("병상 수 수집", trackNanos, trackNanos.length);
+    }
+
+    // 로그인 후 여러 스레드로 병원 API 를 무작위 호출 (워밍업 이후 구간만 집계)
+    private static void measureApi(ConfigurableApplicationContext context) throws Exception {
+        String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String accessToken = login(httpClient, baseUrl);
+
+        HospitalSnapshot snapshot = context.getBean(HospitalSnapshotHolder.class).getSnapshot();
+        if (snapshot.size() == 0) throw new IllegalStateException("동기화된 병원이 없습니다.");
+
+        int threads = Integer.getInteger("replay.load.threads", 16);
+        long warmupMillis = Long.getLong("replay.load.warmup-seconds", 5) * 1000;
+        long durationMillis = Long.getLong("replay.load.seconds", 30) * 1000;
+        List<String> endpoints = Arrays.asList(System.getProperty("replay.load.endpoints", "list,map,preview,details").split(","));
+
+        long measureFrom = System.currentTimeMillis() + warmupMillis;
+        long end = measureFrom + durationMillis;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Map<String, Stats>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                Map<String, Stats> stats = new LinkedHashMap<>();
+                while (System.currentTimeMillis() < end) {
+                    String endpoint = endpoints.get(ThreadLocalRandom.current().nextInt(endpoints.size()));
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path(endpoint, snapshot)))
+                            .header(ACCESS_HEADER, "Bearer " + accessToken)
+                            .timeout(Duration.ofSeconds(10))
+                            .GET()
+                            .build();
+
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    long elapsed = System.nanoTime() - start;
+
+                    if (System.currentTimeMillis() >= measureFrom) {
+                        stats.computeIfAbsent(endpoint, key -> new Stats()).add(elapsed, ok);
+                    }
+                }
+                return stats;
+            }));
+        }
+
+        Map<String, Stats> total = new LinkedHashMap<>();
+        for (Future<Map<String, Stats>> future : futures) {
+            future.get().forEach((endpoint, stats) -> total.computeIfAbsent(endpoint, key -> new Stats()).merge(stats));
+        }
+        executor.shutdown();
+
+        System.out.println();
+        System.out.println("== /api/hospitals/* (" + threads + " 스레드, " + durationMillis / 1000 + "초) ==");
+        total.forEach((endpoint, stats) -> {
+            System.out.printf("%-8s 처리량 %8.1f req/s, 오류 %d%n", endpoint, stats.count * 1000.0 / durationMillis, stats.errors);
+            printLatency(endpoint, stats.nanos, stats.count);
+        });
+    }
+
+    // 조회 위치는 병원 좌표 근처 무작위 (반경 내 병원이 있도록)
+    private static String path(String endpoint, HospitalSnapshot snapshot) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(snapshot.size());
+        double lat = snapshot.hasLocation(index) ? snapshot.getLatitude(index) + random.nextGaussian() * 0.01 : 37.5665;
+        double lon = snapshot.hasLocation(index) ? snapshot.getLongitude(index) + random.nextGaussian() * 0.01 : 126.9780;
+        String position = "lat=" + lat + "&lon=" + lon;
+
+        switch (endpoint) {
+            case "list":
+                return "/api/hospitals/list?" + position;
+            case "map":
+                return "/api/hospitals/map?swLat=" + (lat - 0.05) + "&swLon=" + (lon - 0.05) + "&neLat=" + (lat + 0.05) + "&neLon=" + (lon + 0.05);
+            case "preview":
+                return "/api/hospitals/preview/" + snapshot.getId(index) + "?" + position;
+            case "details":
+                return "/api/hospitals/details/" + snapshot.getId(index) + "?" + position;
+            default:
+                throw new IllegalArgumentException("알 수 없는 엔드포인트: " + endpoint);
+        }
+    }
+
+    // 부하 측정용 사용자 가입 후 AccessToken 발급
+    private static String login(HttpClient httpClient, String baseUrl) throws Exception {
+        String credentials = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"";
+        httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/signup"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials + ",\"name\":\"load\"}"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials + "}"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        return response.headers().firstValue(ACCESS_HEADER)
+                .orElseThrow(() -> new IllegalStateException("로그인 실패: " + response.statusCode()));
+    }
+
+    private static void printLatency(String name, long[] nanos, int count) {
+        if (count == 0) return;
+
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        System.out.printf("%-8s p50 %8.2f ms, p95 %8.2f ms, p99 %8.2f ms, max %8.2f ms%n", name,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), sorted[count - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private static class Stats { // 엔드포인트별 응답 시간 (ns), 오류 수
+        private long[] nanos = new long[1024];
+
+        private int count;
+
+        private int errors;
+
+        private void add(long elapsed, boolean ok) {
+            if (count == nanos.length) nanos = Arrays.copyOf(nanos, count * 2);
+            nanos[count++] = elapsed;
+            if (!ok) errors++;
+        }
+
+        private void merge(Stats other) {
+            for (int i = 0; i < other.count; i++) add(other.nanos[i], true);
+            errors += other.errors;
+        }
+    }
+
+    // Redis 없이 실행하기 위해 로그아웃 블랙리스트 조회를 항상 false 로 대체
+    private static class RedisBypass implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof RedisUtil)) return bean;
+
+            return new RedisUtil(null, null) {
+                @Override
+                public boolean hasKeyBlackList(String key) {
+                    return false;
+                }
+            };
+        }
+    }
+}
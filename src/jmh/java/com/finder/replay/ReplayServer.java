@@ -0,0 +1,329 @@
+package com.finder.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.finder.benchmark.BenchmarkData;
+import com.finder.route.RouteSummary;
+import com.finder.route.StubRouteClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ReplayServer implements AutoCloseable { // 공공데이터, 길찾기 API 녹화 응답 재생 서버 (외부 API 없이 부하 측정)
+    // 공공데이터 API 경로 (api.base-url 에 붙여 사용)
+    public static final String DATA_PREFIX = "/B552657/ErmctInfoInqireService";
+
+    private static final String ROUTE_PREFIX = "/v1/";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public enum Mode {
+        // 녹화된 응답 재생 (녹화 파일이 없으면 고정 시드 데이터로 생성)
+        REPLAY,
+
+        // 실제 API 로 전달하고 응답을 녹화
+        RECORD
+    }
+
+    private final Config config;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private ReplayServer(Config config) throws IOException {
+        this.config = config;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", config.port), 0);
+        this.executor = Executors.newFixedThreadPool(config.threads);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static ReplayServer start(Config config) throws IOException {
+        ReplayServer replayServer = new ReplayServer(config);
+        replayServer.server.start();
+
+        return replayServer;
+    }
+
+    // 단독 실행: ./gradlew replayServer -Preplay.mode=record -Preplay.dir=build/replay
+    public static void main(String[] args) throws IOException {
+        ReplayServer replayServer = start(Config.fromSystemProperties());
+        System.out.println("재생 서버 시작: " + replayServer.getBaseUrl() + " (" + replayServer.config.mode + ")");
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            boolean route = path.startsWith(ROUTE_PREFIX);
+            Profile profile = route ? config.route : config.data;
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+
+            // 지연, 오류 주입
+            delay(profile);
+            if (ThreadLocalRandom.current().nextDouble() < profile.errorRate) {
+                respond(exchange, 503, "text/plain", "injected error".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            String contentType = route ? "application/json;charset=UTF-8" : "application/xml;charset=UTF-8";
+            Path fixture = (config.dir == null) ? null : config.dir.resolve(fixtureName(exchange, requestBody));
+            if (config.mode == Mode.RECORD) {
+                record(exchange, route, requestBody, fixture, contentType);
+            } else if (fixture != null && Files.exists(fixture)) {
+                respond(exchange, 200, contentType, Files.readAllBytes(fixture));
+            } else {
+                respond(exchange, 200, contentType, generate(path, exchange.getRequestURI().getRawQuery(), requestBody));
+            }
+        } catch (RuntimeException e) {
+            respond(exchange, 500, "text/plain", e.toString().getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // 실제 API 응답을 그대로 전달하고 정상 응답만 파일로 저장
+    private void record(HttpExchange exchange, boolean route, byte[] requestBody, Path fixture, String contentType) throws IOException {
+        URI uri = URI.create((route ? config.routeUpstream : config.dataUpstream) + exchange.getRequestURI().getRawPath()
+                + ((exchange.getRequestURI().getRawQuery() == null) ? "" : "?" + exchange.getRequestURI().getRawQuery()));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .method(exchange.getRequestMethod(), (requestBody.length == 0) ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        for (String header : new String[] { "Authorization", "Content-Type" }) {
+            String value = exchange.getRequestHeaders().getFirst(header);
+            if (value != null) builder.header(header, value);
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("녹화 요청 중단", e);
+        }
+
+        if (response.statusCode() == 200 && fixture != null) {
+            Files.createDirectories(fixture.getParent());
+            Files.write(fixture, response.body());
+        }
+        respond(exchange, response.statusCode(), contentType, response.body());
+    }
+
+    // 녹화 파일이 없을 때 고정 시드 데이터로 응답 생성 (실시간, 기본정보 응답의 기관 id 는 서로 대응)
+    private byte[] generate(String path, String rawQuery, byte[] requestBody) throws IOException {
+        Map<String, String> query = parseQuery(rawQuery);
+        String body;
+        if (path.endsWith("/getEmrrmRltmUsefulSckbdInfoInqire")) {
+            // 병상 수가 분 단위로 바뀌도록 분마다 시드 변경
+            long seed = config.seed + System.currentTimeMillis() / 60000;
+            body = BenchmarkData.xmlPage("rltm-item.xml", 1, config.realtimeRows, config.realtimeRows, seed);
+        } else if (path.endsWith("/getEgytBassInfoInqire")) {
+            int pageNo = parseInt(query.get("pageNo"), 1);
+            int numOfRows = parseInt(query.get("numOfRows"), 10);
+            body = BenchmarkData.xmlPage("bass-item.xml", pageNo, numOfRows, config.basicRows, config.seed + pageNo);
+        } else if (path.equals("/v1/directions")) {
+            body = directions(query);
+        } else if (path.equals("/v1/destinations/directions")) {
+            body = destinations(OBJECT_MAPPER.readTree(requestBody));
+        } else {
+            throw new IllegalArgumentException("재생할 수 없는 경로: " + path);
+        }
+
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 단일 목적지 길찾기 응답 (routes[0].summary)
+    private static String directions(Map<String, String> query) throws IOException {
+        String[] origin = query.getOrDefault("origin", "0,0").split(",");
+        String[] destination = query.getOrDefault("destination", "0,0").split(",");
+        RouteSummary summary = StubRouteClient.estimate(Double.parseDouble(origin[1]), Double.parseDouble(origin[0]),
+                Double.parseDouble(destination[1]), Double.parseDouble(destination[0]));
+
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.putArray("routes").add(route(null, summary));
+
+        return OBJECT_MAPPER.writeValueAsString(response);
+    }
+
+    // 다중 목적지 길찾기 응답 (요청의 key 별 summary)
+    private static String destinations(JsonNode request) throws IOException {
+        double originLat = request.path("origin").path("y").asDouble();
+        double originLon = request.path("origin").path("x").asDouble();
+
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        ArrayNode routes = response.putArray("routes");
+        for (JsonNode destination : request.path("destinations")) {
+            RouteSummary summary = StubRouteClient.estimate(originLat, originLon,
+                    destination.path("y").asDouble(), destination.path("x").asDouble());
+            routes.add(route(destination.path("key").asText(), summary));
+        }
+
+        return OBJECT_MAPPER.writeValueAsString(response);
+    }
+
+    private static ObjectNode route(String key, RouteSummary summary) {
+        ObjectNode route = OBJECT_MAPPER.createObjectNode();
+        if (key != null) route.put("key", key);
+        route.put("result_code", 0);
+        route.putObject("summary").put("distance", summary.getDistance()).put("duration", summary.getDuration());
+
+        return route;
+    }
+
+    // 녹화 파일 이름 (경로 마지막 부분 + 인증키를 제외한 요청 해시)
+    private static String fixtureName(HttpExchange exchange, byte[] requestBody) {
+        String path = exchange.getRequestURI().getPath();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        String query = (rawQuery == null) ? "" : rawQuery.replaceAll("(^|&)serviceKey=[^&]*", "");
+        String name = path.substring(path.lastIndexOf('/') + 1);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update((exchange.getRequestMethod() + " " + path + "?" + query).getBytes(StandardCharsets.UTF_8));
+            digest.update(requestBody);
+            StringBuilder sb = new StringBuilder(name).append('-');
+            byte[] hash = digest.digest();
+            for (int i = 0; i < 6; i++) sb.append(String.format("%02x", hash[i]));
+
+            return sb.append(path.startsWith(ROUTE_PREFIX) ? ".json" : ".xml").toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) return query;
+
+        for (String pair : rawQuery.split("&")) {
+            int index = pair.indexOf('=');
+            if (index < 0) continue;
+            query.put(URLDecoder.decode(pair.substring(0, index), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8));
+        }
+
+        return query;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null || value.isEmpty()) return defaultValue;
+        return Integer.parseInt(value);
+    }
+
+    private static void delay(Profile profile) {
+        long latency = profile.latency + ((profile.jitter > 0) ? ThreadLocalRandom.current().nextLong(profile.jitter + 1) : 0);
+        if (latency <= 0) return;
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, (body.length == 0) ? -1 : body.length);
+        if (body.length == 0) return;
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    public static class Profile { // 업스트림별 지연, 오류 주입 설정
+        // 고정 지연 (ms), 추가 무작위 지연 상한 (ms)
+        private final long latency;
+
+        private final long jitter;
+
+        // 503 응답 비율 (0 ~ 1)
+        private final double errorRate;
+
+        public Profile(long latency, long jitter, double errorRate) {
+            this.latency = latency;
+            this.jitter = jitter;
+            this.errorRate = errorRate;
+        }
+
+        private static Profile fromSystemProperties(String prefix) {
+            return new Profile(Long.getLong(prefix + ".latency", 0), Long.getLong(prefix + ".jitter", 0),
+                    Double.parseDouble(System.getProperty(prefix + ".error-rate", "0")));
+        }
+    }
+
+    public static class Config { // 재생 서버 설정 (replay.* 시스템 속성)
+        private Mode mode = Mode.REPLAY;
+
+        // 0 이면 빈 포트 사용
+        private int port;
+
+        private int threads = 64;
+
+        // 녹화 파일 디렉터리 (없으면 항상 생성 데이터로 응답)
+        private Path dir;
+
+        private String dataUpstream = "http://apis.data.go.kr";
+
+        private String routeUpstream = "https://apis-navi.kakaomobility.com";
+
+        private int realtimeRows = 400;
+
+        private int basicRows = 39700;
+
+        private long seed = 42;
+
+        private Profile data = new Profile(0, 0, 0);
+
+        private Profile route = new Profile(0, 0, 0);
+
+        public static Config fromSystemProperties() {
+            Config config = new Config();
+            config.mode = Mode.valueOf(System.getProperty("replay.mode", "replay").toUpperCase());
+            config.port = Integer.getInteger("replay.port", 0);
+            config.threads = Integer.getInteger("replay.threads", config.threads);
+            String dir = System.getProperty("replay.dir");
+            config.dir = (dir == null || dir.isEmpty()) ? null : Paths.get(dir);
+            config.dataUpstream = System.getProperty("replay.data.upstream", config.dataUpstream);
+            config.routeUpstream = System.getProperty("replay.route.upstream", config.routeUpstream);
+            config.realtimeRows = Integer.getInteger("replay.realtime-rows", config.realtimeRows);
+            config.basicRows = Integer.getInteger("replay.basic-rows", config.basicRows);
+            config.seed = Long.getLong("replay.seed", config.seed);
+            config.data = Profile.fromSystemProperties("replay.data");
+            config.route = Profile.fromSystemProperties("replay.route");
+
+            return config;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.finder.xml;
+
+import com.finder.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+@State(Scope.Benchmark)
+public class XmlParseBenchmark { // 공공데이터 API 응답 언마샬링 벤치마크
+    // 400건: 실시간 가용병상정보, 39700건: 응급의료기관 기본정보
+    @Param({"400", "39700"})
+    private int rows;
+
+    private String xmlData;
+
+    private byte[] xmlBytes;
+
+    // 기존 방식 비교용 (응답 전체를 XmlModel 로 언마샬링)
+    private JAXBContext context;
+
+    @Setup
+    public void setup() throws JAXBException {
+        context = JAXBContext.newInstance(XmlModel.class);
+        String fixture = (rows <= 1000) ? "rltm-item.xml" : "bass-item.xml";
+        xmlData = BenchmarkData.xmlResponse(fixture, rows, 42);
+        xmlBytes = xmlData.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 기존 방식: 응답 문자열 전체를 객체 트리로 언마샬링
+    @Benchmark
+    public XmlModel unmarshal() throws JAXBException {
+        return (XmlModel) context.createUnmarshaller().unmarshal(new StringReader(xmlData));
+    }
+
+    // <item> 단위 스트리밍 파싱 (응답 전체 객체 트리 미생성)
+    @Benchmark
+    public ItemPage stream(Blackhole blackhole) throws IOException, JAXBException {
+        return ItemStreamReader.read(new ByteArrayInputStream(xmlBytes), blackhole::consume);
+    }
+}
@@ -0,0 +1,62 @@
+package com.finder.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig { // 비동기 작업 스레드 풀 설정 파일
+    @Value("${kakao.route.pool-size:32}")
+    private int routePoolSize;
+
+    @Value("${kakao.route.queue-capacity:256}")
+    private int routeQueueCapacity;
+
+    @Value("${api.basic.parallelism:4}")
+    private int basicInfoParallelism;
+
+    @Value("${bed.subscription.pool-size:4}")
+    private int pushPoolSize;
+
+    @Value("${bed.subscription.queue-capacity:10000}")
+    private int pushQueueCapacity;
+
+    // 길찾기 API 요청 전용 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor routeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(routePoolSize);
+        executor.setMaxPoolSize(routePoolSize);
+        executor.setQueueCapacity(routeQueueCapacity);
+        executor.setThreadNamePrefix("route-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 응급의료기관 기본정보 페이지 동시 요청 전용 스레드 풀 (동시 요청 수 제한)
+    @Bean
+    public ThreadPoolTaskExecutor basicInfoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(basicInfoParallelism);
+        executor.setMaxPoolSize(basicInfoParallelism);
+        executor.setThreadNamePrefix("basic-info-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 병상 수 변경 구독자 전송 전용 스레드 풀 (느린 연결이 수집 경로를 막지 않도록 분리)
+    @Bean
+    public ThreadPoolTaskExecutor bedPushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pushPoolSize);
+        executor.setMaxPoolSize(pushPoolSize);
+        executor.setQueueCapacity(pushQueueCapacity);
+        executor.setThreadNamePrefix("bed-push-");
+        executor.initialize();
+
+        return executor;
+    }
+}
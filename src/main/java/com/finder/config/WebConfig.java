@@ -1,16 +1,31 @@
 package com.finder.config;
 
+import com.finder.controller.HospitalController;
+import com.finder.ingest.IngestionAgeInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer { // CORS 허용 설정 파일
+    private final IngestionAgeInterceptor ingestionAgeInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOriginPatterns("*", "http:/localhost:8080/")
                 .allowedMethods("*")
-                .allowedHeaders("*");
+                .allowedHeaders("*")
+                .exposedHeaders(HospitalController.NEXT_CURSOR_HEADER,
+                        IngestionAgeInterceptor.BED_AGE_HEADER, IngestionAgeInterceptor.HOSPITAL_AGE_HEADER);
+    }
+
+    // 병원 조회 응답에 데이터 경과 시간 표시
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(ingestionAgeInterceptor).addPathPatterns("/api/hospitals/**");
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,30 @@
 package com.finder.controller;
 
+import com.finder.dto.BedHistoryDto;
 import com.finder.dto.HospitalDetailDto;
 import com.finder.dto.HospitalPreviewDto;
+import com.finder.dto.HospitalPreviewPageDto;
+import com.finder.dto.MapClusterDto;
 import com.finder.dto.MapResponseDto;
+import com.finder.service.BedSubscriptionService;
 import com.finder.service.HospitalService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/hospitals")
 public class HospitalController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final HospitalService hospitalService;
 
+    private final BedSubscriptionService bedSubscriptionService;
+
     // 지도 내 병원 위치 조회
     @GetMapping("/map")
     public ResponseEntity<List<MapResponseDto>> findHospitalMap(@RequestParam Double swLat, @RequestParam Double swLon,
@@ -22,16 +32,44 @@ public class HospitalController {
         return ResponseEntity.ok(hospitalService.findHospitalMap(swLat, swLon, neLat, neLon));
     }
 
+    // 지도 내 병원 클러스터 조회 (줌 레벨별)
+    @GetMapping("/map/clusters")
+    public ResponseEntity<List<MapClusterDto>> findHospitalMapClusters(@RequestParam Double swLat, @RequestParam Double swLon,
+                                                                       @RequestParam Double neLat, @RequestParam Double neLon,
+                                                                       @RequestParam Integer zoom) {
+        return ResponseEntity.ok(hospitalService.findHospitalMapClusters(swLat, swLon, neLat, neLon, zoom));
+    }
+
     // 병원 미리 보기
     @GetMapping("/preview/{id}")
     public ResponseEntity<HospitalPreviewDto> findHospitalPreview(@PathVariable Long id, @RequestParam Double lat, @RequestParam Double lon) {
         return ResponseEntity.ok(hospitalService.findHospitalPreview(id, lat, lon));
     }
 
-    // 병원 목록 조회
+    // 병원 목록 조회 (다음 페이지 커서는 X-Next-Cursor 헤더로 전달)
     @GetMapping("/list")
-    public ResponseEntity<List<HospitalPreviewDto>> findHospitalList(@RequestParam Double lat, @RequestParam Double lon) {
-        return ResponseEntity.ok(hospitalService.findHospitalList(lat, lon));
+    public ResponseEntity<List<HospitalPreviewDto>> findHospitalList(@RequestParam Double lat, @RequestParam Double lon,
+                                                                     @RequestParam(required = false) Integer limit,
+                                                                     @RequestParam(required = false) String cursor) {
+        HospitalPreviewPageDto page = hospitalService.findHospitalList(lat, lon, limit, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+
+        return response.body(page.getHospitals());
+    }
+
+    // 병원 목록 스트리밍 조회 (hospitals: 직선 거리 기준 목록, next: 다음 페이지 커서, route: 병원별 경로 조회 결과, done: 종료)
+    @GetMapping(value = "/list/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamHospitalList(@RequestParam Double lat, @RequestParam Double lon,
+                                         @RequestParam(required = false) Integer limit,
+                                         @RequestParam(required = false) String cursor) {
+        return hospitalService.streamHospitalList(lat, lon, limit, cursor);
+    }
+
+    // 병원별 병상 수 변경 구독 (snapshot: 현재 병상 수, change: 수집 시 바뀐 병상 수)
+    @GetMapping(value = "/beds/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeBeds(@RequestParam List<Long> ids) {
+        return bedSubscriptionService.subscribe(ids);
     }
 
     // 병원 상세 조회
@@ -39,4 +77,10 @@ public class HospitalController {
     public ResponseEntity<HospitalDetailDto> findHospitalDetail(@PathVariable Long id, @RequestParam Double lat, @RequestParam Double lon) {
         return ResponseEntity.ok(hospitalService.findHospitalDetail(id, lat, lon));
     }
+
+    // 병원 최근 병상 이용 가능 시간 조회 (1시간 집계 기준, 최대 7일)
+    @GetMapping("/details/{id}/beds")
+    public ResponseEntity<BedHistoryDto> findBedHistory(@PathVariable Long id, @RequestParam(defaultValue = "24") Integer hours) {
+        return ResponseEntity.ok(hospitalService.findBedHistory(id, hours));
+    }
 }
\ No newline at end of file
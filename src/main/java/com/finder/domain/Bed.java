@@ -7,21 +7,41 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @IdClass(BedId.class)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+// @IdClass 기본 키 컬럼은 속성 이름 순서 (epoch_minute, hospital_id) 로 생성되므로 병원별 조회용 인덱스를 따로 둠
+@Table(name = "bed_sample", indexes = {
+        @Index(name = "idx_bed_sample_minute", columnList = "epoch_minute"),
+        @Index(name = "idx_bed_sample_hospital", columnList = "hospital_id, epoch_minute")
+})
 public class Bed extends BaseEntity {
     @Id
-    private String name;
+    private Long hospitalId;
 
+    // 수집 시각 (epoch 기준 분, 날짜가 달라도 겹치지 않음)
     @Id
-    private String time;
+    private Integer epochMinute;
 
-    private LocalDateTime localDateTime;
-    
     private Integer count;
-}
\ No newline at end of file
+
+    public LocalDateTime getLocalDateTime() {
+        return toLocalDateTime(epochMinute);
+    }
+
+    public static int toEpochMinute(LocalDateTime time) {
+        return (int) (time.atZone(ZoneId.systemDefault()).toEpochSecond() / 60);
+    }
+
+    public static LocalDateTime toLocalDateTime(int epochMinute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * 60L), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,54 @@
+package com.finder.domain;
+
+import com.finder.idClass.BedRollupId;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+@IdClass(BedRollupId.class)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+// @IdClass 기본 키 컬럼은 속성 이름 순서 (bucket_minute, bucket_size, hospital_id) 로 생성되므로 병원별 조회용 인덱스를 따로 둠
+@Table(name = "bed_rollup", indexes = {
+        @Index(name = "idx_bed_rollup_minute", columnList = "bucket_minute"),
+        @Index(name = "idx_bed_rollup_hospital", columnList = "hospital_id, bucket_size, bucket_minute")
+})
+public class BedRollup extends BaseEntity {
+    // 15분 구간
+    public static final int QUARTER = 15;
+
+    // 1시간 구간
+    public static final int HOUR = 60;
+
+    @Id
+    private Long hospitalId;
+
+    // 구간 크기 (분)
+    @Id
+    private Integer bucketSize;
+
+    // 구간 시작 시각 (epoch 기준 분)
+    @Id
+    private Integer bucketMinute;
+
+    // 구간 시작 시각의 병상 수
+    private Integer boundaryCount;
+
+    // 구간 내 병상 이용 가능(병상 수 1 이상) 분 수
+    private Integer availableMinutes;
+
+    // 구간 내 수집 건수
+    private Integer sampleCount;
+
+    // 시각이 속한 구간의 시작 시각
+    public static int bucketOf(int epochMinute, int bucketSize) {
+        return Math.floorDiv(epochMinute, bucketSize) * bucketSize;
+    }
+}
@@ -0,0 +1,44 @@
+package com.finder.domain;
+
+import com.finder.idClass.BedRunId;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+@IdClass(BedRunId.class)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+// @IdClass 기본 키 컬럼은 속성 이름 순서 (from_minute, hospital_id) 로 생성되므로 병원별 조회용 인덱스를 따로 둠
+// 병원별 겹치는 구간 조회 (to_minute > from) 는 종료 시각 기준이 범위를 좁힘
+@Table(name = "bed_run", indexes = {
+        @Index(name = "idx_bed_run_to_minute", columnList = "to_minute"),
+        @Index(name = "idx_bed_run_hospital", columnList = "hospital_id, to_minute")
+})
+public class BedRun extends BaseEntity {
+    // 아직 끝나지 않은 구간의 종료 시각 (범위 조건에서 인덱스를 쓸 수 있도록 null 대신 사용)
+    public static final int OPEN = Integer.MAX_VALUE;
+
+    @Id
+    private Long hospitalId;
+
+    // 구간 시작 시각 (epoch 기준 분, 포함)
+    @Id
+    private Integer fromMinute;
+
+    // 구간 종료 시각 (epoch 기준 분, 제외)
+    private Integer toMinute;
+
+    // 구간 동안 유지된 병상 수
+    private Integer count;
+
+    public boolean isOpen() {
+        return toMinute == OPEN;
+    }
+}
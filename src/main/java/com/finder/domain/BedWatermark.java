@@ -0,0 +1,22 @@
+package com.finder.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "bed_watermark")
+public class BedWatermark {
+    // 수집 경로 이름
+    @Id
+    private String name;
+
+    // 마지막으로 저장 완료된 수집 시각 (epoch 기준 분)
+    private Integer epochMinute;
+}
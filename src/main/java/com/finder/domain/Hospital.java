@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_hospital_hpid", columnList = "hpid", unique = true))
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -17,6 +18,18 @@ public class Hospital extends BaseEntity {
     @SequenceGenerator(name = "HOSPITAL_SEQUENCE_GENERATOR", sequenceName = "HOSPITAL_SQ", initialValue = 1, allocationSize = 1)
     private Long id;
 
+    // 공공데이터 기관 id (기본 정보 동기화 기준)
+    private String hpid;
+
+    // 동기화 대상 필드 해시 (값이 바뀐 경우에만 갱신)
+    private Long contentHash;
+
+    // 공공데이터 목록에서 연속으로 빠진 횟수 (다시 나타나면 0)
+    private Integer missCount;
+
+    // 여러 번 연속으로 빠진 병원은 삭제하지 않고 비활성화 (병원 id, 병상 이력 유지, null 은 기존 데이터로 활성)
+    private Boolean active;
+
     private String name;
 
     private String address;
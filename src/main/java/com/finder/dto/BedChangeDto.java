@@ -0,0 +1,12 @@
+package com.finder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BedChangeDto {
+    private Long id;
+
+    private Integer hvec;
+}
@@ -6,12 +6,15 @@ import java.util.List;
 
 @Data
 @AllArgsConstructor
-public class BedDataDto {
+public class BedDataDto { // 최근 2시간 병상 정보
+    // 최근 120분 중 병상 이용 가능(병상 수 1 이상) 시간 (수집이 멈춘 경우 마감된 15분 구간 8개 기준)
     private String successTime;
 
+    // 최근 120분 중 병상 이용 가능 시간 비율 (%)
     private Double percent;
 
     private Double otherPercent;
 
+    // 현재 진행 중인 구간 직전까지 마감된 15분 구간 8개의 구간 시작 시각 병상 수 + 현재 병상 수 (9개)
     private List<Integer> twoAgoList;
 }
\ No newline at end of file
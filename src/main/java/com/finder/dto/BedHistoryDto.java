@@ -0,0 +1,20 @@
+package com.finder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BedHistoryDto { // 최근 N시간 병상 정보 (현재 진행 중인 구간 직전까지 마감된 1시간 구간 기준)
+    // 병상 이용 가능(병상 수 1 이상) 시간
+    private String successTime;
+
+    // 병상 이용 가능 시간 비율 (%)
+    private Double percent;
+
+    private Double otherPercent;
+
+    // 1시간 구간별 구간 시작 시각 병상 수 (집계가 없는 구간은 0)
+    private List<Integer> hourList;
+}
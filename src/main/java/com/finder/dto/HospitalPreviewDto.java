@@ -21,4 +21,7 @@ public class HospitalPreviewDto {
     private Double distance;
 
     private String arrivalTime;
+
+    // 경로 조회 실패 시 직선 거리 기준 추정 값 여부
+    private Boolean estimated;
 }
\ No newline at end of file
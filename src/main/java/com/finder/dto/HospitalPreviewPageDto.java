@@ -0,0 +1,14 @@
+package com.finder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class HospitalPreviewPageDto {
+    private List<HospitalPreviewDto> hospitals;
+
+    // 다음 페이지 커서 (마지막 페이지일 경우 null)
+    private String nextCursor;
+}
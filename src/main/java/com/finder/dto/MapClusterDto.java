@@ -0,0 +1,19 @@
+package com.finder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MapClusterDto {
+    // 단일 병원일 경우에만 값 존재
+    private Long hospitalId;
+
+    private Double lat;
+
+    private Double lon;
+
+    private Integer count;
+
+    private Integer hvec;
+}
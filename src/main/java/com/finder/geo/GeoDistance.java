@@ -0,0 +1,80 @@
+package com.finder.geo;
+
+public final class GeoDistance { // 좌표 배열 기반 직선 거리 계산 (후보당 객체 할당 없음)
+    // 지구 반지름 (m)
+    private static final double EARTH_RADIUS = 6_371_000.;
+
+    // 위도 1도당 거리 (m)
+    private static final double METER_PER_DEGREE = EARTH_RADIUS * Math.PI / 180;
+
+    private GeoDistance() {
+    }
+
+    // Haversine 공식 사용 거리 계산 (m)
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+        double a = sinLat * sinLat + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 출발지 -> 후보 전체 거리 계산 결과를 out 에 기록 (out 은 호출 측에서 재사용)
+    public static void distances(double originLat, double originLon, double[] latitudes, double[] longitudes,
+                                 int[] candidates, int count, double[] out) {
+        double originLatRad = Math.toRadians(originLat);
+        double cosOrigin = Math.cos(originLatRad);
+
+        for (int i = 0; i < count; i++) {
+            int c = candidates[i];
+            out[i] = haversine(originLatRad, Math.toRadians(originLon), cosOrigin, latitudes[c], longitudes[c]);
+        }
+    }
+
+    // 반경 내 후보만 outIndexes, outDistances 에 기록하고 개수 반환
+    // 위경도 경계 상자로 먼저 걸러낸 뒤 남은 후보만 Haversine 계산
+    public static int filterWithinRadius(double originLat, double originLon, double radius,
+                                         double[] latitudes, double[] longitudes, int[] candidates, int count,
+                                         int[] outIndexes, double[] outDistances) {
+        double latDelta = radius / METER_PER_DEGREE;
+        // 상자 내 최고 위도 기준 경도 폭 계산 (반경 내 후보를 잘못 제외하지 않도록 보수적으로 계산)
+        double maxAbsLat = Math.min(89.9, Math.abs(originLat) + latDelta);
+        double lonDelta = radius / (METER_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat)));
+        double minLat = originLat - latDelta;
+        double maxLat = originLat + latDelta;
+        double minLon = originLon - lonDelta;
+        double maxLon = originLon + lonDelta;
+
+        double originLatRad = Math.toRadians(originLat);
+        double originLonRad = Math.toRadians(originLon);
+        double cosOrigin = Math.cos(originLatRad);
+
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int c = candidates[i];
+            double lat = latitudes[c];
+            double lon = longitudes[c];
+            // NaN 좌표는 비교 결과가 false 이므로 함께 제외됨
+            if (!(lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon)) continue;
+
+            double distance = haversine(originLatRad, originLonRad, cosOrigin, lat, lon);
+            if (distance <= radius) {
+                outIndexes[size] = c;
+                outDistances[size] = distance;
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    // 출발지 라디안 값, cos 값을 미리 계산해 둔 Haversine
+    private static double haversine(double originLatRad, double originLonRad, double cosOrigin, double lat, double lon) {
+        double latRad = Math.toRadians(lat);
+        double sinLat = Math.sin((latRad - originLatRad) / 2);
+        double sinLon = Math.sin((Math.toRadians(lon) - originLonRad) / 2);
+        double a = sinLat * sinLat + cosOrigin * Math.cos(latRad) * sinLon * sinLon;
+
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
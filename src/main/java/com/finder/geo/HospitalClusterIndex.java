@@ -0,0 +1,263 @@
+package com.finder.geo;
+
+import com.finder.dto.MapClusterDto;
+import com.finder.snapshot.HospitalSnapshot;
+import com.finder.snapshot.HospitalSnapshotEvent;
+import com.finder.snapshot.HospitalSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HospitalClusterIndex { // 줌 레벨별 병원 마커 클러스터
+    // 클러스터링을 적용하는 최대 줌 레벨 (초과 시 병원 단위 마커)
+    public static final int MAX_CLUSTER_ZOOM = 13;
+
+    // 클러스터 반경 (타일 256px 기준 픽셀)
+    private static final int CLUSTER_PIXEL = 60;
+
+    // 병상 수 합계 갱신 주기 (ms)
+    private static final long HVEC_REFRESH_INTERVAL = 60 * 1000;
+
+    private final HospitalSnapshotHolder hospitalSnapshotHolder;
+
+    // 스냅샷 재생성과 병상 수 갱신이 서로 덮어쓰지 않도록 비교 후 교체
+    private final AtomicReference<Tree> tree = new AtomicReference<>(Tree.empty());
+
+    // 조회 경로에서 병상 수 합계를 갱신 중인지 여부 (한 요청만 갱신)
+    private final AtomicBoolean hvecRefreshing = new AtomicBoolean();
+
+    // 서버 시작 시 현재 스냅샷 기준 클러스터 생성
+    @PostConstruct
+    public void init() {
+        rebuild(hospitalSnapshotHolder.getSnapshot());
+    }
+
+    // 병원 스냅샷 교체 시 클러스터 재생성
+    @EventListener
+    public void onSnapshotChanged(HospitalSnapshotEvent event) {
+        rebuild(event.getSnapshot());
+    }
+
+    private void rebuild(HospitalSnapshot snapshot) {
+        List<Integer> located = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (snapshot.hasLocation(i)) located.add(i);
+        }
+
+        // 최하위 레벨: 병원 1개 = 클러스터 1개
+        Level[] levels = new Level[MAX_CLUSTER_ZOOM + 2];
+        levels[MAX_CLUSTER_ZOOM + 1] = Level.leaf(snapshot, located);
+
+        // 하위 레벨 클러스터를 격자 단위로 병합하여 상위 레벨 생성
+        for (int zoom = MAX_CLUSTER_ZOOM; zoom >= 0; zoom--) {
+            levels[zoom] = Level.merge(levels[zoom + 1], cellSize(zoom));
+        }
+
+        // 마지막으로 반영한 병원별 병상 수를 새 클러스터에 다시 적용
+        Tree current;
+        do {
+            current = tree.get();
+        } while (!tree.compareAndSet(current, current.withLevels(levels)));
+        log.info("병원 클러스터 재생성 완료 (병원 수: {}, 최상위 클러스터 수: {})", located.size(), levels[0].size());
+    }
+
+    // 병상 수 합계 갱신 필요 여부
+    public boolean isHvecStale() {
+        return System.currentTimeMillis() - tree.get().hvecUpdatedAt > HVEC_REFRESH_INTERVAL;
+    }
+
+    // 병상 수 합계가 오래된 경우 한 요청만 loader 로 조회하여 갱신 (다른 요청은 기존 합계 사용)
+    public void refreshHvecIfStale(Supplier<Map<Long, Integer>> loader) {
+        if (!isHvecStale() || !hvecRefreshing.compareAndSet(false, true)) return;
+        try {
+            if (isHvecStale()) updateHvec(loader.get());
+        } finally {
+            hvecRefreshing.set(false);
+        }
+    }
+
+    // 병원별 현재 병상 수로 클러스터 병상 수 합계 갱신
+    public void updateHvec(Map<Long, Integer> hvecById) {
+        long now = System.currentTimeMillis();
+        Tree current;
+        do {
+            current = tree.get();
+        } while (!tree.compareAndSet(current, new Tree(current.levels, hvecById, now)));
+    }
+
+    // 지도 영역 내 클러스터 조회
+    public List<MapClusterDto> findClusters(int zoom, double swLat, double swLon, double neLat, double neLon) {
+        Tree current = tree.get();
+        int levelIndex = Math.max(0, Math.min(zoom, MAX_CLUSTER_ZOOM + 1));
+        Level level = current.levels[levelIndex];
+        int[] hvec = current.hvec[levelIndex];
+
+        List<MapClusterDto> clusters = new ArrayList<>();
+        for (int i = 0; i < level.size(); i++) {
+            double lat = level.lat[i];
+            double lon = level.lon[i];
+            if (lat < swLat || lat > neLat || lon < swLon || lon > neLon) continue;
+
+            Long hospitalId = (level.count[i] == 1) ? level.hospitalId[i] : null;
+            clusters.add(new MapClusterDto(hospitalId, lat, lon, level.count[i], hvec[i]));
+        }
+
+        return clusters;
+    }
+
+    // 줌 레벨별 클러스터 격자 크기 (도)
+    private static double cellSize(int zoom) {
+        return CLUSTER_PIXEL * 360. / (256. * (1L << zoom));
+    }
+
+    // 최하위 레벨부터 병상 수 합계 계산
+    private static int[][] sumHvec(Level[] levels, int[] leafHvec) {
+        int[][] hvec = new int[levels.length][];
+        hvec[levels.length - 1] = leafHvec;
+
+        for (int zoom = levels.length - 2; zoom >= 0; zoom--) {
+            Level level = levels[zoom];
+            int[] childHvec = hvec[zoom + 1];
+            int[] sums = new int[level.size()];
+            for (int i = 0; i < sums.length; i++) {
+                for (int child : level.children[i]) sums[i] += childHvec[child];
+            }
+            hvec[zoom] = sums;
+        }
+
+        return hvec;
+    }
+
+    private static class Tree {
+        private final Level[] levels;
+
+        private final int[][] hvec;
+
+        // 합계 계산에 사용한 병원별 병상 수 (클러스터 재생성 시 다시 적용)
+        private final Map<Long, Integer> hvecById;
+
+        private final long hvecUpdatedAt;
+
+        private Tree(Level[] levels, Map<Long, Integer> hvecById, long hvecUpdatedAt) {
+            Level leaf = levels[MAX_CLUSTER_ZOOM + 1];
+            int[] leafHvec = new int[leaf.size()];
+            for (int i = 0; i < leafHvec.length; i++) {
+                leafHvec[i] = Math.max(0, hvecById.getOrDefault(leaf.hospitalId[i], 0));
+            }
+
+            this.levels = levels;
+            this.hvec = sumHvec(levels, leafHvec);
+            this.hvecById = hvecById;
+            this.hvecUpdatedAt = hvecUpdatedAt;
+        }
+
+        private Tree withLevels(Level[] levels) {
+            return new Tree(levels, hvecById, hvecUpdatedAt);
+        }
+
+        private static Tree empty() {
+            Level[] levels = new Level[MAX_CLUSTER_ZOOM + 2];
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] = new Level(new double[0], new double[0], new int[0], new long[0], new int[0][]);
+            }
+            return new Tree(levels, Collections.emptyMap(), 0);
+        }
+    }
+
+    private static class Level {
+        // 클러스터 중심 좌표 (병원 수 가중 평균)
+        private final double[] lat;
+
+        private final double[] lon;
+
+        private final int[] count;
+
+        // 병원 1개짜리 클러스터의 병원 id
+        private final long[] hospitalId;
+
+        // 하위 레벨 클러스터 인덱스
+        private final int[][] children;
+
+        private Level(double[] lat, double[] lon, int[] count, long[] hospitalId, int[][] children) {
+            this.lat = lat;
+            this.lon = lon;
+            this.count = count;
+            this.hospitalId = hospitalId;
+            this.children = children;
+        }
+
+        private int size() {
+            return count.length;
+        }
+
+        private static Level leaf(HospitalSnapshot snapshot, List<Integer> located) {
+            int size = located.size();
+            double[] lat = new double[size];
+            double[] lon = new double[size];
+            int[] count = new int[size];
+            long[] hospitalId = new long[size];
+
+            for (int i = 0; i < size; i++) {
+                int index = located.get(i);
+                lat[i] = snapshot.getLatitude(index);
+                lon[i] = snapshot.getLongitude(index);
+                count[i] = 1;
+                hospitalId[i] = snapshot.getId(index);
+            }
+
+            return new Level(lat, lon, count, hospitalId, new int[size][]);
+        }
+
+        private static Level merge(Level child, double cellSize) {
+            Map<Long, List<Integer>> cells = new LinkedHashMap<>();
+            for (int i = 0; i < child.size(); i++) {
+                long key = ((long) Math.floor(child.lat[i] / cellSize) << 32) | ((long) Math.floor(child.lon[i] / cellSize) & 0xffffffffL);
+                cells.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+
+            int size = cells.size();
+            double[] lat = new double[size];
+            double[] lon = new double[size];
+            int[] count = new int[size];
+            long[] hospitalId = new long[size];
+            int[][] children = new int[size][];
+
+            int index = 0;
+            for (List<Integer> members : cells.values()) {
+                double latSum = 0;
+                double lonSum = 0;
+                int total = 0;
+                children[index] = new int[members.size()];
+
+                for (int m = 0; m < members.size(); m++) {
+                    int c = members.get(m);
+                    latSum += child.lat[c] * child.count[c];
+                    lonSum += child.lon[c] * child.count[c];
+                    total += child.count[c];
+                    children[index][m] = c;
+                }
+
+                lat[index] = latSum / total;
+                lon[index] = lonSum / total;
+                count[index] = total;
+                hospitalId[index] = (total == 1) ? child.hospitalId[members.get(0)] : 0;
+                index++;
+            }
+
+            return new Level(lat, lon, count, hospitalId, children);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.finder.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HospitalGridIndex { // 병원 위치 격자 인덱스 (불변, 스냅샷 인덱스 저장)
+    // 격자 한 칸의 크기 (위도/경도 0.05도, 약 5.5km)
+    private static final double CELL_SIZE = 0.05;
+
+    // 위도 1도당 거리 (m)
+    private static final double METER_PER_DEGREE = 111_320.;
+
+    // 격자 키 -> 해당 격자 내 병원 스냅샷 인덱스
+    private final Map<Long, int[]> cells;
+
+    private HospitalGridIndex(Map<Long, int[]> cells) {
+        this.cells = cells;
+    }
+
+    // 좌표 배열 기준 인덱스 생성 (위치 정보가 없는 NaN 좌표 제외)
+    public static HospitalGridIndex build(double[] latitudes, double[] longitudes) {
+        Map<Long, List<Integer>> members = new HashMap<>();
+        for (int i = 0; i < latitudes.length; i++) {
+            if (Double.isNaN(latitudes[i]) || Double.isNaN(longitudes[i])) continue;
+
+            long key = cellKey(cellOf(latitudes[i]), cellOf(longitudes[i]));
+            members.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        Map<Long, int[]> cells = new HashMap<>();
+        members.forEach((key, indexes) -> cells.put(key, indexes.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new HospitalGridIndex(cells);
+    }
+
+    public int cellCount() {
+        return cells.size();
+    }
+
+    // 반경에 걸치는 격자 내 병원 후보 인덱스 조회 (정확한 거리 필터링은 호출 측에서 수행)
+    public int[] findCandidates(double lat, double lon, double radiusMeter) {
+        double latDelta = radiusMeter / METER_PER_DEGREE;
+        // 고위도에서 경도 폭이 발산하지 않도록 cos 값 하한 적용
+        double lonDelta = radiusMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        int minLatCell = cellOf(lat - latDelta);
+        int maxLatCell = cellOf(lat + latDelta);
+        int minLonCell = cellOf(lon - lonDelta);
+        int maxLonCell = cellOf(lon + lonDelta);
+
+        int[] candidates = new int[16];
+        int size = 0;
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                int[] cell = cells.get(cellKey(latCell, lonCell));
+                if (cell == null) continue;
+
+                if (size + cell.length > candidates.length) {
+                    candidates = Arrays.copyOf(candidates, Math.max(candidates.length * 2, size + cell.length));
+                }
+                System.arraycopy(cell, 0, candidates, size, cell.length);
+                size += cell.length;
+            }
+        }
+
+        return Arrays.copyOf(candidates, size);
+    }
+
+    private static int cellOf(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,76 @@
+package com.finder.geo;
+
+public final class NearestSelector { // 거리 기준 상위 K개 선택 (크기 K의 최대 힙 사용)
+    private NearestSelector() {
+    }
+
+    // (거리, id) 순서로 커서 이후의 후보 중 가장 가까운 limit 개의 위치를 오름차순으로 out 에 기록
+    // 반환 값은 커서 이후 후보 전체 개수 (limit 초과 시 다음 페이지 존재)
+    public static int select(double[] distances, int[] indexes, long[] ids, int count, int limit,
+                             double afterDistance, long afterId, int[] out) {
+        int size = 0;
+        int remaining = 0;
+
+        for (int i = 0; i < count; i++) {
+            double distance = distances[i];
+            long id = ids[indexes[i]];
+            if (compare(distance, id, afterDistance, afterId) <= 0) continue;
+            remaining++;
+
+            if (size < limit) {
+                out[size] = i;
+                siftUp(distances, indexes, ids, out, size++);
+            } else if (limit > 0 && compare(distance, id, distances[out[0]], ids[indexes[out[0]]]) < 0) {
+                out[0] = i;
+                siftDown(distances, indexes, ids, out, 0, size);
+            }
+        }
+
+        // 힙 정렬로 오름차순 정렬 (최댓값을 뒤로 보냄)
+        for (int end = size - 1; end > 0; end--) {
+            swap(out, 0, end);
+            siftDown(distances, indexes, ids, out, 0, end);
+        }
+
+        return remaining;
+    }
+
+    private static void siftUp(double[] distances, int[] indexes, long[] ids, int[] heap, int child) {
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (greater(distances, indexes, ids, heap[parent], heap[child])) break;
+            swap(heap, parent, child);
+            child = parent;
+        }
+    }
+
+    private static void siftDown(double[] distances, int[] indexes, long[] ids, int[] heap, int parent, int size) {
+        while (true) {
+            int largest = parent;
+            int left = 2 * parent + 1;
+            int right = left + 1;
+            if (left < size && greater(distances, indexes, ids, heap[left], heap[largest])) largest = left;
+            if (right < size && greater(distances, indexes, ids, heap[right], heap[largest])) largest = right;
+            if (largest == parent) return;
+
+            swap(heap, parent, largest);
+            parent = largest;
+        }
+    }
+
+    private static boolean greater(double[] distances, int[] indexes, long[] ids, int a, int b) {
+        return compare(distances[a], ids[indexes[a]], distances[b], ids[indexes[b]]) > 0;
+    }
+
+    // 거리가 같은 경우 id 로 순서 결정 (커서 기준이 항상 한 가지 순서를 갖도록)
+    private static int compare(double distance1, long id1, double distance2, long id2) {
+        int result = Double.compare(distance1, distance2);
+        return (result != 0) ? result : Long.compare(id1, id2);
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int temp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = temp;
+    }
+}
@@ -1,9 +1,11 @@
 package com.finder.idClass;
 
+import lombok.EqualsAndHashCode;
 import java.io.Serializable;
 
+@EqualsAndHashCode
 public class BedId implements Serializable {
-    private String name;
+    private Long hospitalId;
 
-    private String time;
-}
\ No newline at end of file
+    private Integer epochMinute;
+}
@@ -0,0 +1,13 @@
+package com.finder.idClass;
+
+import lombok.EqualsAndHashCode;
+import java.io.Serializable;
+
+@EqualsAndHashCode
+public class BedRollupId implements Serializable {
+    private Long hospitalId;
+
+    private Integer bucketSize;
+
+    private Integer bucketMinute;
+}
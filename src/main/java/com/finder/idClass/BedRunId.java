@@ -0,0 +1,11 @@
+package com.finder.idClass;
+
+import lombok.EqualsAndHashCode;
+import java.io.Serializable;
+
+@EqualsAndHashCode
+public class BedRunId implements Serializable {
+    private Long hospitalId;
+
+    private Integer fromMinute;
+}
@@ -0,0 +1,17 @@
+package com.finder.ingest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class Backoff { // 지터를 적용한 지수 백오프 (절반은 고정, 절반은 무작위 지연)
+    private Backoff() {
+    }
+
+    // attempt 번째 (0부터) 재시도 대기 시간 (ms), base * 2^attempt 를 max 로 제한한 뒤 [절반, 전체] 범위에서 선택
+    public static long delay(int attempt, long base, long max) {
+        long exponential = base << Math.min(attempt, 30);
+        if (exponential <= 0 || exponential > max) exponential = max;
+
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(exponential - half + 1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.finder.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CircuitBreaker { // 업스트림별 회로 차단기 (연속 실패 시 요청 차단, 차단 시간이 지나면 시험 요청 1건 허용)
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+
+    // 차단까지 허용하는 연속 실패 횟수
+    private final int failureThreshold;
+
+    // 차단 시간 (ms, 시험 요청이 실패할 때마다 지수적으로 증가)
+    private final long openBase;
+
+    private final long openMax;
+
+    private State state = State.CLOSED;
+
+    private int failures;
+
+    private int openCount;
+
+    private long openUntil;
+
+    public CircuitBreaker(String name, int failureThreshold, long openBase, long openMax) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openBase = openBase;
+        this.openMax = openMax;
+    }
+
+    // 요청 가능 여부 (허용된 요청은 반드시 onSuccess, onFailure, release 중 하나를 호출)
+    public synchronized boolean allowRequest() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() < openUntil) return false;
+                state = State.HALF_OPEN;
+                return true;
+            default: // 시험 요청 진행 중
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) log.info("{} 회로 복구", name);
+        state = State.CLOSED;
+        failures = 0;
+        openCount = 0;
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            long openMillis = Backoff.delay(openCount++, openBase, openMax);
+            state = State.OPEN;
+            openUntil = System.currentTimeMillis() + openMillis;
+            log.warn("{} 회로 차단 (연속 실패: {}, 차단 시간: {}ms)", name, failures, openMillis);
+        }
+    }
+
+    // 업스트림 상태와 무관한 오류 (DB 오류 등)로 끝난 요청 정리
+    // 시험 요청이었다면 차단 해제하되, 다음 업스트림 실패 한 번에 다시 차단되도록 실패 횟수를 남겨 둠
+    public synchronized void release() {
+        if (state != State.HALF_OPEN) return;
+        state = State.CLOSED;
+        failures = Math.max(failures, failureThreshold - 1);
+    }
+
+    // 차단 해제까지 남은 시간 (ms, 차단 중이 아니면 0)
+    public synchronized long remainingOpenMillis() {
+        return (state == State.OPEN) ? Math.max(0, openUntil - System.currentTimeMillis()) : 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,7 @@
+package com.finder.ingest;
+
+public class CircuitOpenException extends RuntimeException { // 회로 차단 중 요청 거부
+    public CircuitOpenException(String name) {
+        super(name + " 회로 차단 중");
+    }
+}
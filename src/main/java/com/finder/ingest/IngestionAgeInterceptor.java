@@ -0,0 +1,30 @@
+package com.finder.ingest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@RequiredArgsConstructor
+public class IngestionAgeInterceptor implements HandlerInterceptor { // 응답 헤더에 병상 수, 병원 정보 경과 시간 표시 (수집 실패 중에도 마지막 데이터 제공)
+    public static final String BED_AGE_HEADER = "X-Bed-Data-Age";
+
+    public static final String HOSPITAL_AGE_HEADER = "X-Hospital-Data-Age";
+
+    private final IngestionStatus ingestionStatus;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        setAge(response, BED_AGE_HEADER, ingestionStatus.ageSeconds(IngestionStatus.Feed.BEDS));
+        setAge(response, HOSPITAL_AGE_HEADER, ingestionStatus.ageSeconds(IngestionStatus.Feed.HOSPITALS));
+
+        return true;
+    }
+
+    // 경과 시간 (초), 수집에 성공한 적 없으면 헤더 생략
+    private static void setAge(HttpServletResponse response, String header, Long age) {
+        if (age != null) response.setHeader(header, String.valueOf(age));
+    }
+}
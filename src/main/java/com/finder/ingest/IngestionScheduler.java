@@ -0,0 +1,116 @@
+package com.finder.ingest;
+
+import com.finder.xml.XmlService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import javax.xml.bind.JAXBException;
+import java.io.IOException;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingest.hospitals.enabled", havingValue = "true", matchIfMissing = true)
+public class IngestionScheduler { // 병원 기본 정보 동기화 (서버 시작 시, 이후 주기적으로 실행, 실패 시 백오프 후 재시도)
+    private final XmlService xmlService;
+
+    private final IngestionStatus ingestionStatus;
+
+    // 동기화 전용 스케줄러 (재시도, 백오프가 긴 동기화가 병상 수 수집 등 @Scheduled 작업의 기본 스케줄러를 점유하지 않도록 분리)
+    private final ThreadPoolTaskScheduler taskScheduler = createScheduler();
+
+    // 동기화 주기 (ms)
+    @Value("${ingest.hospitals.interval:3600000}")
+    private long interval;
+
+    // 재시도 대기 시간 기준 값, 최댓값 (ms)
+    @Value("${ingest.backoff.base:1000}")
+    private long backoffBase;
+
+    @Value("${ingest.backoff.max:300000}")
+    private long backoffMax;
+
+    // 연속 실패 횟수 (전용 스케줄러 스레드 하나에서만 실행되므로 동기화 불필요)
+    private int attempt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        schedule(0);
+    }
+
+    @PreDestroy
+    public void stop() {
+        taskScheduler.shutdown();
+    }
+
+    void syncHospitals() {
+        try {
+            call(IngestionStatus.Upstream.REALTIME, xmlService::callApi1);
+            call(IngestionStatus.Upstream.BASIC, xmlService::callApi2);
+        } catch (Exception e) {
+            // 차단 중이면 차단 해제 시각 이후로 재시도
+            long delay = Math.max(Backoff.delay(attempt++, backoffBase, backoffMax), remainingOpenMillis());
+            log.warn("병원 기본 정보 동기화 실패 (연속 {}회, {}ms 후 재시도, 기존 데이터 {}초 경과): {}",
+                    attempt, delay, ingestionStatus.ageSeconds(IngestionStatus.Feed.HOSPITALS), e.toString());
+            schedule(delay);
+            return;
+        }
+
+        attempt = 0;
+        ingestionStatus.markFresh(IngestionStatus.Feed.HOSPITALS);
+        schedule(interval);
+    }
+
+    // 회로 차단기를 거쳐 호출 (업스트림 오류만 실패로 기록, DB 오류 등은 차단기만 정리하고 재시도)
+    private void call(IngestionStatus.Upstream upstream, IngestCall call) throws IOException, JAXBException {
+        CircuitBreaker breaker = ingestionStatus.breaker(upstream);
+        if (!breaker.allowRequest()) throw new CircuitOpenException(breaker.getName());
+
+        boolean settled = false;
+        try {
+            call.run();
+            breaker.onSuccess();
+            settled = true;
+        } catch (IOException | JAXBException e) {
+            breaker.onFailure();
+            settled = true;
+            throw e;
+        } finally {
+            // 그 밖의 예외로 끝나도 시험 요청 상태로 남지 않도록 정리
+            if (!settled) breaker.release();
+        }
+    }
+
+    private long remainingOpenMillis() {
+        long remaining = 0;
+        for (IngestionStatus.Upstream upstream : IngestionStatus.Upstream.values()) {
+            remaining = Math.max(remaining, ingestionStatus.breaker(upstream).remainingOpenMillis());
+        }
+        return remaining;
+    }
+
+    private void schedule(long delayMillis) {
+        taskScheduler.schedule(this::syncHospitals, Instant.now().plusMillis(delayMillis));
+    }
+
+    private static ThreadPoolTaskScheduler createScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ingest-");
+        scheduler.initialize();
+
+        return scheduler;
+    }
+
+    @FunctionalInterface
+    private interface IngestCall {
+        void run() throws IOException, JAXBException;
+    }
+}
@@ -0,0 +1,101 @@
+package com.finder.ingest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class IngestionStatus implements HealthIndicator { // 수집 경로별 회로 차단기, 마지막 성공 시각 (데이터 경과 시간) 관리
+    public enum Upstream {
+        // 응급실 실시간 가용병상정보 API
+        REALTIME,
+
+        // 응급의료기관 기본정보 API
+        BASIC
+    }
+
+    public enum Feed {
+        // 분 단위 병상 수
+        BEDS,
+
+        // 병원 기본 정보
+        HOSPITALS
+    }
+
+    private final Map<Upstream, CircuitBreaker> breakers = new EnumMap<>(Upstream.class);
+
+    // 마지막 수집 성공 시각 (epoch ms, 성공한 적 없으면 0)
+    private final Map<Feed, AtomicLong> lastSuccess = new EnumMap<>(Feed.class);
+
+    // 경과 시간이 이 값을 넘으면 오래된 데이터로 표시 (초)
+    private final Map<Feed, Long> staleAfter = new EnumMap<>(Feed.class);
+
+    public IngestionStatus(MeterRegistry meterRegistry,
+                           @Value("${ingest.breaker.failure-threshold:5}") int failureThreshold,
+                           @Value("${ingest.breaker.open-base:30000}") long openBase,
+                           @Value("${ingest.breaker.open-max:600000}") long openMax,
+                           @Value("${ingest.beds.stale-after:300}") long bedsStaleAfter,
+                           @Value("${ingest.hospitals.stale-after:86400}") long hospitalsStaleAfter) {
+        for (Upstream upstream : Upstream.values()) {
+            CircuitBreaker breaker = new CircuitBreaker(upstream.name().toLowerCase(), failureThreshold, openBase, openMax);
+            breakers.put(upstream, breaker);
+            Gauge.builder("ingest.breaker.state", breaker, b -> b.getState().ordinal())
+                    .description("회로 차단기 상태 (0: 정상, 1: 차단, 2: 시험 요청)")
+                    .tag("upstream", breaker.getName())
+                    .register(meterRegistry);
+        }
+
+        staleAfter.put(Feed.BEDS, bedsStaleAfter);
+        staleAfter.put(Feed.HOSPITALS, hospitalsStaleAfter);
+        for (Feed feed : Feed.values()) {
+            lastSuccess.put(feed, new AtomicLong());
+            Gauge.builder("ingest.staleness", this, status -> {
+                        Long age = status.ageSeconds(feed);
+                        return (age == null) ? Double.NaN : age;
+                    })
+                    .description("마지막 수집 성공 이후 경과 시간 (초)")
+                    .tag("feed", feed.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    public CircuitBreaker breaker(Upstream upstream) {
+        return breakers.get(upstream);
+    }
+
+    public void markFresh(Feed feed) {
+        lastSuccess.get(feed).set(System.currentTimeMillis());
+    }
+
+    // 마지막 수집 성공 이후 경과 시간 (초, 성공한 적 없으면 null)
+    public Long ageSeconds(Feed feed) {
+        long last = lastSuccess.get(feed).get();
+        return (last == 0) ? null : (System.currentTimeMillis() - last) / 1000;
+    }
+
+    public boolean isStale(Feed feed) {
+        Long age = ageSeconds(feed);
+        return age == null || age > staleAfter.get(feed);
+    }
+
+    // 오래된 데이터도 계속 제공하므로 상태는 항상 UP, 경과 시간과 차단 상태만 표시
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        for (Feed feed : Feed.values()) {
+            Long age = ageSeconds(feed);
+            builder.withDetail(feed.name().toLowerCase(), Map.of(
+                    "ageSeconds", (age == null) ? "never" : age,
+                    "stale", isStale(feed)));
+        }
+        breakers.values().forEach(breaker -> builder.withDetail(breaker.getName() + "Breaker", breaker.getState()));
+
+        return builder.build();
+    }
+}
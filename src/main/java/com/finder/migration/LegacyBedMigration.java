@@ -0,0 +1,57 @@
+package com.finder.migration;
+
+import com.finder.domain.Bed;
+import com.finder.repository.BedSampleStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bed.migration.enabled", havingValue = "true")
+public class LegacyBedMigration { // 기존 bed 테이블(병원 이름, "H:mm") -> 병상 수 저장소(병원 id, epoch 분) 이관
+    private final JdbcTemplate jdbcTemplate;
+
+    // bed.storage.mode 에 맞는 저장소 (bed_sample 또는 bed_run)
+    private final BedSampleStore bedSampleStore;
+
+    // 서버 시작 후 1회 이관 (같은 키는 덮어쓰므로 재실행 가능, 기존 테이블 삭제는 수동으로 진행)
+    // 구간 저장소는 마지막 저장 시각 이전 분을 무시하므로 시각 오름차순으로 분 단위 저장, 수집 시작 전에 실행해야 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        Map<Long, Integer> counts = new HashMap<>();
+        int[] minute = {Integer.MIN_VALUE};
+        long[] total = new long[2];
+
+        // 병원 테이블에 없는 이름의 데이터는 이관하지 않음
+        jdbcTemplate.query("select h.id, b.local_date_time, b.count from bed b join hospital h on h.name = b.name " +
+                "order by b.local_date_time", rs -> {
+            Timestamp time = rs.getTimestamp(2);
+            // 수집 시각이 없는 데이터는 건너뜀
+            if (time == null) {
+                total[1]++;
+                return;
+            }
+
+            int epochMinute = Bed.toEpochMinute(time.toLocalDateTime());
+            if (epochMinute != minute[0] && !counts.isEmpty()) {
+                bedSampleStore.save(minute[0], counts);
+                counts.clear();
+            }
+            minute[0] = epochMinute;
+            counts.put(rs.getLong(1), rs.getInt(3));
+            total[0]++;
+        });
+        if (!counts.isEmpty()) bedSampleStore.save(minute[0], counts);
+
+        log.info("병상 수 데이터 이관 완료 (건수: {}, 시각 누락 건수: {})", total[0], total[1]);
+    }
+}
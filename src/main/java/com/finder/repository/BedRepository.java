@@ -4,21 +4,28 @@ import com.finder.domain.Bed;
 import com.finder.idClass.BedId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface BedRepository extends JpaRepository<Bed, BedId> {
-    @Query(value = "select b from Bed b where b.name = :name " +
-            "and EXTRACT(YEAR FROM b.localDateTime) = EXTRACT(YEAR FROM :time) " +
-            "and EXTRACT(MONTH FROM b.localDateTime) = EXTRACT(MONTH FROM :time) " +
-            "and EXTRACT(DAY FROM b.localDateTime) = EXTRACT(DAY FROM :time) " +
-            "and EXTRACT(HOUR FROM b.localDateTime) = EXTRACT(HOUR FROM :time) " +
-            "and EXTRACT(MINUTE FROM b.localDateTime) = EXTRACT(MINUTE FROM :time)")
-    Bed findByNameAndTime(String name, LocalDateTime time);
+public interface BedRepository extends JpaRepository<Bed, BedId>, BedRepositoryCustom {
+    // (hospital_id, epoch_minute) 인덱스 범위 조회 (기본 키는 epoch_minute 선행이므로 idx_bed_sample_hospital 사용)
+    @Query(value = "select b " +
+            "from Bed b " +
+            "where b.hospitalId = :hospitalId and " +
+            "b.epochMinute between :fromMinute and :toMinute " +
+            "order by b.epochMinute")
+    List<Bed> findByRange(Long hospitalId, Integer fromMinute, Integer toMinute);
+
+    // epoch_minute 인덱스 범위 조회
+    @Query(value = "select b " +
+            "from Bed b " +
+            "where b.epochMinute between :fromMinute and :toMinute")
+    List<Bed> findAllByRange(Integer fromMinute, Integer toMinute);
 
+    // 여러 병원의 (hospital_id, epoch_minute) 인덱스 범위 일괄 조회
     @Query(value = "select b " +
             "from Bed b " +
-            "where b.name = :name and " +
-            "b.localDateTime between :beforeTime and :currentTime")
-    List<Bed> findByRecent(String name, LocalDateTime beforeTime, LocalDateTime currentTime);
-}
\ No newline at end of file
+            "where b.hospitalId in :hospitalIds and " +
+            "b.epochMinute between :fromMinute and :toMinute")
+    List<Bed> findAllByRange(Collection<Long> hospitalIds, Integer fromMinute, Integer toMinute);
+}
@@ -0,0 +1,9 @@
+package com.finder.repository;
+
+import com.finder.domain.Bed;
+import java.util.List;
+
+public interface BedRepositoryCustom {
+    // 병상 수 일괄 저장 (JDBC 배치 사용)
+    void insertAll(List<Bed> beds);
+}
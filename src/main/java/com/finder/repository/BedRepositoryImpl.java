@@ -0,0 +1,36 @@
+package com.finder.repository;
+
+import com.finder.domain.Bed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BedRepositoryImpl implements BedRepositoryCustom { // 병상 수 JDBC 배치 저장 (엔티티 단위 persist 미사용)
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<Bed> beds) {
+        if (beds.isEmpty()) return;
+
+        // 같은 분에 대한 재수집 시 키 중복이 나지 않도록 먼저 삭제
+        jdbcTemplate.batchUpdate("delete from bed_sample where hospital_id = ? and epoch_minute = ?", beds, beds.size(), (ps, bed) -> {
+            ps.setLong(1, bed.getHospitalId());
+            ps.setInt(2, bed.getEpochMinute());
+        });
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("insert into bed_sample (hospital_id, epoch_minute, count, created_date, modified_date) " +
+                "values (?, ?, ?, ?, ?)", beds, beds.size(), (ps, bed) -> {
+            ps.setLong(1, bed.getHospitalId());
+            ps.setInt(2, bed.getEpochMinute());
+            ps.setInt(3, bed.getCount());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.finder.repository;
+
+import com.finder.domain.BedRollup;
+import com.finder.idClass.BedRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+
+public interface BedRollupRepository extends JpaRepository<BedRollup, BedRollupId>, BedRollupRepositoryCustom {
+    // (hospital_id, bucket_size, bucket_minute) 인덱스 범위 조회 (기본 키는 bucket_minute 선행이므로 idx_bed_rollup_hospital 사용)
+    @Query(value = "select r " +
+            "from BedRollup r " +
+            "where r.hospitalId = :hospitalId and " +
+            "r.bucketSize = :bucketSize and " +
+            "r.bucketMinute between :fromMinute and :toMinute " +
+            "order by r.bucketMinute")
+    List<BedRollup> findByRange(Long hospitalId, Integer bucketSize, Integer fromMinute, Integer toMinute);
+
+    @Query(value = "select r " +
+            "from BedRollup r " +
+            "where r.bucketSize = :bucketSize and " +
+            "r.bucketMinute between :fromMinute and :toMinute")
+    List<BedRollup> findAllByRange(Integer bucketSize, Integer fromMinute, Integer toMinute);
+}
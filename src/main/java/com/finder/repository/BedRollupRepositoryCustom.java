@@ -0,0 +1,9 @@
+package com.finder.repository;
+
+import com.finder.domain.BedRollup;
+import java.util.List;
+
+public interface BedRollupRepositoryCustom {
+    // 병상 수 집계 일괄 저장 (JDBC 배치 사용)
+    void insertAll(List<BedRollup> rollups);
+}
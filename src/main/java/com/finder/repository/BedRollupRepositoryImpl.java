@@ -0,0 +1,42 @@
+package com.finder.repository;
+
+import com.finder.domain.BedRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BedRollupRepositoryImpl implements BedRollupRepositoryCustom { // 병상 수 집계 JDBC 배치 저장
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<BedRollup> rollups) {
+        if (rollups.isEmpty()) return;
+
+        // 서버 재시작 후 같은 구간을 다시 집계한 경우 덮어씀
+        jdbcTemplate.batchUpdate("delete from bed_rollup where hospital_id = ? and bucket_size = ? and bucket_minute = ?",
+                rollups, rollups.size(), (ps, rollup) -> {
+                    ps.setLong(1, rollup.getHospitalId());
+                    ps.setInt(2, rollup.getBucketSize());
+                    ps.setInt(3, rollup.getBucketMinute());
+                });
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("insert into bed_rollup (hospital_id, bucket_size, bucket_minute, boundary_count, " +
+                "available_minutes, sample_count, created_date, modified_date) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                rollups, rollups.size(), (ps, rollup) -> {
+                    ps.setLong(1, rollup.getHospitalId());
+                    ps.setInt(2, rollup.getBucketSize());
+                    ps.setInt(3, rollup.getBucketMinute());
+                    ps.setInt(4, rollup.getBoundaryCount());
+                    ps.setInt(5, rollup.getAvailableMinutes());
+                    ps.setInt(6, rollup.getSampleCount());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                });
+    }
+}
@@ -0,0 +1,36 @@
+package com.finder.repository;
+
+import com.finder.domain.BedRun;
+import com.finder.idClass.BedRunId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
+import java.util.List;
+
+public interface BedRunRepository extends JpaRepository<BedRun, BedRunId> {
+    // 조회 범위와 겹치는 구간 ((hospital_id, to_minute) 인덱스 범위 조회, idx_bed_run_hospital)
+    @Query(value = "select r " +
+            "from BedRun r " +
+            "where r.hospitalId = :hospitalId and " +
+            "r.fromMinute <= :toMinute and r.toMinute > :fromMinute " +
+            "order by r.fromMinute")
+    List<BedRun> findByRange(Long hospitalId, Integer fromMinute, Integer toMinute);
+
+    // 조회 범위와 겹치는 전체 병원 구간 (to_minute 인덱스 범위 조회)
+    @Query(value = "select r " +
+            "from BedRun r " +
+            "where r.toMinute > :fromMinute and r.fromMinute <= :toMinute")
+    List<BedRun> findAllByRange(Integer fromMinute, Integer toMinute);
+
+    @Query(value = "select r " +
+            "from BedRun r " +
+            "where r.hospitalId in :hospitalIds and " +
+            "r.toMinute > :fromMinute and r.fromMinute <= :toMinute")
+    List<BedRun> findAllByRange(Collection<Long> hospitalIds, Integer fromMinute, Integer toMinute);
+
+    // 끝나지 않은 구간 (병원당 최대 1건)
+    @Query(value = "select r " +
+            "from BedRun r " +
+            "where r.toMinute = " + BedRun.OPEN)
+    List<BedRun> findOpen();
+}
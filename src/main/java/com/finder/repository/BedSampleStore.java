@@ -0,0 +1,18 @@
+package com.finder.repository;
+
+import com.finder.domain.Bed;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface BedSampleStore { // 분 단위 병상 수 저장소 (bed.storage.mode 로 저장 방식 선택)
+    // 한 수집 시각의 병원별 병상 수 저장 (병원 id -> 병상 수)
+    void save(int epochMinute, Map<Long, Integer> counts);
+
+    // 병원의 분 단위 병상 수 (시각 오름차순, 양 끝 포함)
+    List<Bed> findByRange(Long hospitalId, int fromMinute, int toMinute);
+
+    List<Bed> findAllByRange(int fromMinute, int toMinute);
+
+    List<Bed> findAllByRange(Collection<Long> hospitalIds, int fromMinute, int toMinute);
+}
@@ -5,9 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
-public interface HospitalRepository extends JpaRepository<Hospital, Long> {
+public interface HospitalRepository extends JpaRepository<Hospital, Long>, HospitalRepositoryCustom {
     @Query("select h from Hospital h " +
             "where h.latitude >= :southWestLat and h.longitude >= :southWestLon " +
-            "and h.latitude <= :northEastLat and h.longitude <= :northEastLon")
+            "and h.latitude <= :northEastLat and h.longitude <= :northEastLon " +
+            "and (h.active is null or h.active = true)")
     List<Hospital> findHospitalMap(Double southWestLat, Double southWestLon, Double northEastLat, Double northEastLon);
+
+    // 비활성화되지 않은 병원 (스냅샷 적재용)
+    @Query("select h from Hospital h where h.active is null or h.active = true")
+    List<Hospital> findActive();
 }
\ No newline at end of file
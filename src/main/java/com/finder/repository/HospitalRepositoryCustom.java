@@ -0,0 +1,10 @@
+package com.finder.repository;
+
+import com.finder.domain.Hospital;
+import java.util.List;
+
+public interface HospitalRepositoryCustom {
+    // 공공데이터 기준 병원 목록과 비교하여 추가, 변경된 병원만 일괄 반영 (hpid 기준, 기존 id 유지)
+    // 목록에서 빠진 병원은 삭제하지 않고 여러 번 연속으로 빠진 경우에만 비활성화 (다시 나타나면 같은 id 로 복구)
+    HospitalSyncResult syncAll(List<Hospital> hospitals);
+}
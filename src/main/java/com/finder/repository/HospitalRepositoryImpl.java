@@ -0,0 +1,186 @@
+package com.finder.repository;
+
+import com.finder.domain.Hospital;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+public class HospitalRepositoryImpl implements HospitalRepositoryCustom { // 병원 기본 정보 JDBC 배치 동기화
+    // 해시 입력 필드 구분자
+    private static final char SEPARATOR = '\u001f';
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 연속으로 이 횟수만큼 목록에서 빠지면 비활성화
+    @Value("${hospital.sync.miss-threshold:3}")
+    private int missThreshold;
+
+    // 받은 목록이 활성 병원 수의 이 비율보다 적으면 일부만 받은 응답으로 보고 누락 처리 생략
+    @Value("${hospital.sync.min-ratio:0.5}")
+    private double minRatio;
+
+    @Override
+    @Transactional
+    public HospitalSyncResult syncAll(List<Hospital> hospitals) {
+        // 저장된 병원의 id, 해시, 누락 상태만 조회 (hpid 가 없는 기존 데이터는 이름으로 대응, 비활성 병원 포함)
+        Map<String, Stored> storedByHpid = new HashMap<>();
+        Map<String, Stored> storedByName = new HashMap<>();
+        int[] activeCount = new int[1];
+        jdbcTemplate.query("select id, hpid, name, content_hash, miss_count, active from hospital", rs -> {
+            Stored stored = new Stored(rs.getLong("id"), rs.getString("hpid"));
+            stored.contentHash = rs.getLong("content_hash");
+            if (rs.wasNull()) stored.contentHash = null;
+            stored.missCount = rs.getInt("miss_count");
+            stored.active = rs.getBoolean("active") || rs.wasNull();
+            if (stored.active) activeCount[0]++;
+
+            if (stored.hpid != null) storedByHpid.put(stored.hpid, stored);
+            else storedByName.putIfAbsent(rs.getString("name"), stored);
+        });
+
+        List<Hospital> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        int unchanged = 0;
+        for (Hospital hospital : hospitals) {
+            long hash = contentHash(hospital);
+            Stored stored = storedByHpid.remove(hospital.getHpid());
+            if (stored == null) stored = storedByName.remove(hospital.getName());
+
+            if (stored == null) {
+                inserts.add(hospital);
+            } else if (stored.hpid == null || stored.contentHash == null || stored.contentHash != hash
+                    || stored.missCount > 0 || !stored.active) {
+                // 값이 바뀌었거나 누락됐다가 다시 나타난 병원 (같은 id 로 복구)
+                updates.add(new Object[] { stored.id, hospital });
+            } else {
+                unchanged++;
+            }
+        }
+
+        // 이번 목록에 없는 활성 병원은 누락 횟수만 늘리고, 연속 누락이 기준에 닿으면 비활성화
+        List<Stored> missing = new ArrayList<>();
+        storedByHpid.values().forEach(stored -> {
+            if (stored.active) missing.add(stored);
+        });
+        storedByName.values().forEach(stored -> {
+            if (stored.active) missing.add(stored);
+        });
+        if (!missing.isEmpty() && hospitals.size() < activeCount[0] * minRatio) {
+            log.warn("병원 목록이 크게 줄어 누락 처리 생략 (받은 병원 수: {}, 활성 병원 수: {})", hospitals.size(), activeCount[0]);
+            missing.clear();
+        }
+        int deactivated = 0;
+        for (Stored stored : missing) {
+            stored.missCount++;
+            stored.active = stored.missCount < missThreshold;
+            if (!stored.active) deactivated++;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into hospital (hpid, content_hash, name, address, simple_address, representative_contact, " +
+                    "emergency_contact, ambulance, ct, mri, latitude, longitude, miss_count, active, created_date, modified_date) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)", inserts, inserts.size(), (ps, hospital) -> {
+                setFields(ps, hospital);
+                ps.setBoolean(13, true);
+                ps.setTimestamp(14, now);
+                ps.setTimestamp(15, now);
+            });
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("update hospital set hpid = ?, content_hash = ?, name = ?, address = ?, simple_address = ?, " +
+                    "representative_contact = ?, emergency_contact = ?, ambulance = ?, ct = ?, mri = ?, latitude = ?, longitude = ?, " +
+                    "miss_count = 0, active = ?, modified_date = ? where id = ?", updates, updates.size(), (ps, update) -> {
+                setFields(ps, (Hospital) update[1]);
+                ps.setBoolean(13, true);
+                ps.setTimestamp(14, now);
+                ps.setLong(15, (Long) update[0]);
+            });
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate("update hospital set miss_count = ?, active = ?, modified_date = ? where id = ?",
+                    missing, missing.size(), (ps, stored) -> {
+                        ps.setInt(1, stored.missCount);
+                        ps.setBoolean(2, stored.active);
+                        ps.setTimestamp(3, now);
+                        ps.setLong(4, stored.id);
+                    });
+        }
+
+        log.info("병원 기본 정보 동기화 완료 (추가: {}, 변경: {}, 누락: {}, 비활성화: {}, 유지: {})",
+                inserts.size(), updates.size(), missing.size(), deactivated, unchanged);
+        return new HospitalSyncResult(inserts.size(), updates.size(), deactivated, unchanged);
+    }
+
+    // insert, update 공통 필드 (1 ~ 12번째 파라미터)
+    private static void setFields(PreparedStatement ps, Hospital hospital) throws SQLException {
+        ps.setString(1, hospital.getHpid());
+        ps.setLong(2, contentHash(hospital));
+        ps.setString(3, hospital.getName());
+        ps.setString(4, hospital.getAddress());
+        ps.setString(5, hospital.getSimpleAddress());
+        ps.setString(6, hospital.getRepresentativeContact());
+        ps.setString(7, hospital.getEmergencyContact());
+        ps.setString(8, hospital.getAmbulance());
+        ps.setString(9, hospital.getCt());
+        ps.setString(10, hospital.getMri());
+        setDouble(ps, 11, hospital.getLatitude());
+        setDouble(ps, 12, hospital.getLongitude());
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.DOUBLE);
+        else ps.setDouble(index, value);
+    }
+
+    // 동기화 대상 필드의 SHA-256 해시 앞 8바이트
+    static long contentHash(Hospital hospital) {
+        StringBuilder sb = new StringBuilder();
+        for (Object field : new Object[] { hospital.getName(), hospital.getAddress(), hospital.getSimpleAddress(),
+                hospital.getRepresentativeContact(), hospital.getEmergencyContact(), hospital.getAmbulance(),
+                hospital.getCt(), hospital.getMri(), hospital.getLatitude(), hospital.getLongitude() }) {
+            sb.append(field).append(SEPARATOR);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Stored {
+        private final long id;
+
+        private final String hpid;
+
+        private Long contentHash;
+
+        private int missCount;
+
+        private boolean active;
+
+        private Stored(long id, String hpid) {
+            this.id = id;
+            this.hpid = hpid;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.finder.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class HospitalSyncResult { // 병원 기본 정보 동기화 결과
+    private final int inserted;
+
+    private final int updated;
+
+    // 연속으로 빠져 이번에 비활성화된 병원 수
+    private final int deactivated;
+
+    private final int unchanged;
+
+    public boolean hasChanges() {
+        return inserted + updated + deactivated > 0;
+    }
+}
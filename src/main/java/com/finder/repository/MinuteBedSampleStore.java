@@ -0,0 +1,39 @@
+package com.finder.repository;
+
+import com.finder.domain.Bed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bed.storage.mode", havingValue = "minute", matchIfMissing = true)
+public class MinuteBedSampleStore implements BedSampleStore { // 매분 병원당 1건 저장 (bed_sample)
+    private final BedRepository bedRepository;
+
+    @Override
+    public void save(int epochMinute, Map<Long, Integer> counts) {
+        List<Bed> beds = new ArrayList<>(counts.size());
+        counts.forEach((hospitalId, count) -> beds.add(new Bed(hospitalId, epochMinute, count)));
+        bedRepository.insertAll(beds);
+    }
+
+    @Override
+    public List<Bed> findByRange(Long hospitalId, int fromMinute, int toMinute) {
+        return bedRepository.findByRange(hospitalId, fromMinute, toMinute);
+    }
+
+    @Override
+    public List<Bed> findAllByRange(int fromMinute, int toMinute) {
+        return bedRepository.findAllByRange(fromMinute, toMinute);
+    }
+
+    @Override
+    public List<Bed> findAllByRange(Collection<Long> hospitalIds, int fromMinute, int toMinute) {
+        return bedRepository.findAllByRange(hospitalIds, fromMinute, toMinute);
+    }
+}
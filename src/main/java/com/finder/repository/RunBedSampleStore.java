@@ -0,0 +1,237 @@
+package com.finder.repository;
+
+import com.finder.domain.Bed;
+import com.finder.domain.BedRun;
+import com.finder.tracker.BedRingBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bed.storage.mode", havingValue = "run")
+public class RunBedSampleStore implements BedSampleStore { // 병상 수가 바뀔 때만 저장 ([fromMinute, toMinute) 구간, bed_run)
+    private static final String WATERMARK = "bed_run";
+
+    // 직접 저장하지 않는 서버의 워터마크 재조회 주기 (ms)
+    private static final long READ_STATE_TTL = 60 * 1000;
+
+    private final BedRunRepository bedRunRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 병원 id -> 끝나지 않은 구간 (수집 경로에서만 사용, 첫 저장 시 DB 에서 복원)
+    private Map<Long, OpenRun> openRuns;
+
+    // 마지막으로 저장된 수집 시각
+    private int watermark = Integer.MIN_VALUE;
+
+    // 조회용 워터마크, 병원별 마지막 수집 시각 (저장 시 통째로 교체)
+    private volatile ReadState readState;
+
+    // 병상 수가 그대로인 병원은 쓰기 없음, 바뀐 병원만 이전 구간 종료 + 새 구간 시작
+    // 다음 저장이 커밋 전 상태를 보지 않도록 트랜잭션은 잠금 안에서 시작, 커밋
+    @Override
+    public synchronized void save(int epochMinute, Map<Long, Integer> counts) {
+        if (openRuns == null) restore();
+        if (epochMinute <= watermark) return;
+
+        List<BedRun> closes = new ArrayList<>();
+        for (Iterator<Map.Entry<Long, OpenRun>> it = openRuns.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, OpenRun> entry = it.next();
+            OpenRun open = entry.getValue();
+            Integer count = counts.get(entry.getKey());
+            // 짧은 누락 구간은 직전 병상 수가 이어진 것으로 봄 (BedRingBuffer 와 같은 기준)
+            boolean carried = epochMinute - open.lastMinute - 1 <= BedRingBuffer.CARRY_MINUTES;
+
+            if (count != null && count == open.count && carried) {
+                open.lastMinute = epochMinute;
+                continue;
+            }
+            // 아직 누락 허용 범위 안이면 다음 수집까지 대기
+            if (count == null && carried) continue;
+
+            // 병상 수가 바뀌었으면 직전 분까지, 누락이 길었으면 마지막 수집 다음 분까지로 구간 종료
+            int toMinute = carried ? epochMinute : open.lastMinute + 1;
+            closes.add(new BedRun(entry.getKey(), open.fromMinute, toMinute, open.count));
+            it.remove();
+        }
+
+        List<BedRun> starts = new ArrayList<>();
+        counts.forEach((hospitalId, count) -> {
+            if (openRuns.containsKey(hospitalId)) return;
+
+            starts.add(new BedRun(hospitalId, epochMinute, BedRun.OPEN, count));
+            openRuns.put(hospitalId, new OpenRun(epochMinute, count, epochMinute));
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(closes, starts, epochMinute));
+        } catch (RuntimeException e) {
+            // 저장이 롤백되면 다음 수집 시 DB 기준으로 다시 복원
+            openRuns = null;
+            throw e;
+        }
+        watermark = epochMinute;
+        publishReadState();
+        log.debug("병상 수 구간 저장 (시각: {}, 종료: {}, 시작: {})", epochMinute, closes.size(), starts.size());
+    }
+
+    private void write(List<BedRun> closes, List<BedRun> starts, int epochMinute) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!closes.isEmpty()) {
+            jdbcTemplate.batchUpdate("update bed_run set to_minute = ?, modified_date = ? where hospital_id = ? and from_minute = ?",
+                    closes, closes.size(), (ps, run) -> {
+                ps.setInt(1, run.getToMinute());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, run.getHospitalId());
+                ps.setInt(4, run.getFromMinute());
+            });
+        }
+        if (!starts.isEmpty()) {
+            // 같은 분에 대한 재수집 시 키 중복이 나지 않도록 먼저 삭제
+            jdbcTemplate.batchUpdate("delete from bed_run where hospital_id = ? and from_minute = ?", starts, starts.size(), (ps, run) -> {
+                ps.setLong(1, run.getHospitalId());
+                ps.setInt(2, run.getFromMinute());
+            });
+            jdbcTemplate.batchUpdate("insert into bed_run (hospital_id, from_minute, to_minute, count, created_date, modified_date) " +
+                    "values (?, ?, ?, ?, ?, ?)", starts, starts.size(), (ps, run) -> {
+                ps.setLong(1, run.getHospitalId());
+                ps.setInt(2, run.getFromMinute());
+                ps.setInt(3, run.getToMinute());
+                ps.setInt(4, run.getCount());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+        }
+
+        if (jdbcTemplate.update("update bed_watermark set epoch_minute = ? where name = ?", epochMinute, WATERMARK) == 0) {
+            jdbcTemplate.update("insert into bed_watermark (name, epoch_minute) values (?, ?)", WATERMARK, epochMinute);
+        }
+    }
+
+    // 서버 재시작 시 끝나지 않은 구간 복원 (마지막 수집 시각은 워터마크로 간주)
+    private void restore() {
+        Integer stored = findWatermark();
+        watermark = (stored == null) ? Integer.MIN_VALUE : stored;
+
+        openRuns = new HashMap<>();
+        for (BedRun run : bedRunRepository.findOpen()) {
+            openRuns.put(run.getHospitalId(), new OpenRun(run.getFromMinute(), run.getCount(), Math.max(run.getFromMinute(), watermark)));
+        }
+        publishReadState();
+        log.info("병상 수 구간 복원 완료 (열린 구간 수: {}, 마지막 수집 시각: {})", openRuns.size(), stored);
+    }
+
+    // 커밋된 상태를 조회 경로에 공개 (열린 구간의 마지막 수집 시각 복사)
+    private void publishReadState() {
+        Map<Long, Integer> lastMinutes = new HashMap<>(openRuns.size() * 2);
+        openRuns.forEach((hospitalId, open) -> lastMinutes.put(hospitalId, open.lastMinute));
+        readState = new ReadState(watermark, lastMinutes, System.currentTimeMillis(), true);
+    }
+
+    // 조회용 상태 (직접 저장하는 서버는 저장 시 갱신된 값, 아니면 일정 주기로 DB 워터마크 재조회)
+    private ReadState readState() {
+        ReadState state = readState;
+        long now = System.currentTimeMillis();
+        if (state != null && (state.local || now - state.loadedAt < READ_STATE_TTL)) return state;
+
+        Integer stored = findWatermark();
+        state = new ReadState((stored == null) ? Integer.MIN_VALUE : stored, Collections.emptyMap(), now, false);
+        readState = state;
+        return state;
+    }
+
+    private Integer findWatermark() {
+        List<Integer> minutes = jdbcTemplate.queryForList("select epoch_minute from bed_watermark where name = ?", Integer.class, WATERMARK);
+        return minutes.isEmpty() ? null : minutes.get(0);
+    }
+
+    @Override
+    public List<Bed> findByRange(Long hospitalId, int fromMinute, int toMinute) {
+        return expand(bedRunRepository.findByRange(hospitalId, fromMinute, toMinute), fromMinute, toMinute);
+    }
+
+    @Override
+    public List<Bed> findAllByRange(int fromMinute, int toMinute) {
+        return expand(bedRunRepository.findAllByRange(fromMinute, toMinute), fromMinute, toMinute);
+    }
+
+    @Override
+    public List<Bed> findAllByRange(Collection<Long> hospitalIds, int fromMinute, int toMinute) {
+        return expand(bedRunRepository.findAllByRange(hospitalIds, fromMinute, toMinute), fromMinute, toMinute);
+    }
+
+    // 구간을 조회 범위 안의 분 단위 병상 수로 펼침
+    // 끝나지 않은 구간은 해당 병원이 실제로 수집된 마지막 시각까지 (누락 중인 시각은 구간이 확정된 뒤에 반영)
+    private List<Bed> expand(List<BedRun> runs, int fromMinute, int toMinute) {
+        if (runs.isEmpty()) return new ArrayList<>();
+
+        ReadState state = readState();
+        List<Bed> beds = new ArrayList<>();
+        for (BedRun run : runs) {
+            int start = Math.max(fromMinute, run.getFromMinute());
+            int end = Math.min(toMinute + 1, run.isOpen() ? state.openEnd(run.getHospitalId()) : run.getToMinute());
+            for (int minute = start; minute < end; minute++) {
+                beds.add(new Bed(run.getHospitalId(), minute, run.getCount()));
+            }
+        }
+
+        return beds;
+    }
+
+    private static class ReadState {
+        private final int watermark;
+
+        // 병원 id -> 열린 구간의 마지막 수집 시각 (다른 서버가 저장하는 경우 비어 있음)
+        private final Map<Long, Integer> lastMinutes;
+
+        private final long loadedAt;
+
+        // 이 서버가 저장하면서 갱신한 값인지 여부
+        private final boolean local;
+
+        private ReadState(int watermark, Map<Long, Integer> lastMinutes, long loadedAt, boolean local) {
+            this.watermark = watermark;
+            this.lastMinutes = lastMinutes;
+            this.loadedAt = loadedAt;
+            this.local = local;
+        }
+
+        // 열린 구간을 펼칠 끝 시각 (포함하지 않음)
+        private int openEnd(long hospitalId) {
+            if (watermark == Integer.MIN_VALUE) return Integer.MIN_VALUE;
+            return Math.min(watermark, lastMinutes.getOrDefault(hospitalId, watermark)) + 1;
+        }
+    }
+
+    private static class OpenRun {
+        private final int fromMinute;
+
+        private final int count;
+
+        // 같은 병상 수로 마지막 수집된 시각
+        private int lastMinute;
+
+        private OpenRun(int fromMinute, int count, int lastMinute) {
+            this.fromMinute = fromMinute;
+            this.count = count;
+            this.lastMinute = lastMinute;
+        }
+    }
+}
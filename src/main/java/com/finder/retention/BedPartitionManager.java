@@ -0,0 +1,36 @@
+package com.finder.retention;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+public abstract class BedPartitionManager { // 병상 수 테이블 파티션 단위 삭제
+    protected final JdbcTemplate jdbcTemplate;
+
+    // 기준 시각 이전에 끝나는 파티션 전체 삭제 (기준 시각이 속한 파티션은 유지), 실제로 삭제한 파티션 수 반환 (없던 파티션, 빈 범위 제외)
+    public int dropBefore(BedTable table, int epochMinute) {
+        Integer oldest = jdbcTemplate.queryForObject("select min(" + table.getMinuteColumn() + ") from " + table.getTableName(), Integer.class);
+        if (oldest == null) return 0;
+
+        int end = table.partitionOf(epochMinute);
+        int dropped = 0;
+        for (int start = table.partitionOf(oldest); start < end; start += table.getPartitionMinutes()) {
+            if (dropPartition(table, start)) dropped++;
+        }
+
+        return dropped;
+    }
+
+    // 파티션 시작 시각부터 파티션 크기만큼의 데이터 삭제, 삭제한 파티션 또는 행이 있으면 true
+    protected abstract boolean dropPartition(BedTable table, int partitionStart);
+
+    // 파티션 범위의 행 삭제 (파티션 키 인덱스 사용), 삭제한 행이 있으면 true
+    protected boolean deleteRange(BedTable table, int partitionStart) {
+        int deleted = jdbcTemplate.update("delete from " + table.getTableName() + " where " + table.getMinuteColumn() + " >= ? and "
+                + table.getMinuteColumn() + " < ?", partitionStart, partitionStart + table.getPartitionMinutes());
+        log.debug("{} 파티션 범위 삭제 (시작: {}, 건수: {})", table.getTableName(), partitionStart, deleted);
+        return deleted > 0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.finder.retention;
+
+import com.finder.domain.Bed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BedRetentionJob { // 보관 기간이 지난 병상 수 파티션 삭제 (1일 1회)
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final BedPartitionManager bedPartitionManager;
+
+    // 원본 분 단위 데이터 보관 기간 (일)
+    @Value("${bed.retention.raw-days:7}")
+    private int rawDays;
+
+    // 15분, 1시간 집계 보관 기간 (일)
+    @Value("${bed.retention.rollup-days:90}")
+    private int rollupDays;
+
+    @Scheduled(cron = "${bed.retention.cron:0 30 4 * * *}")
+    public void purge() {
+        int now = Bed.toEpochMinute(LocalDateTime.now());
+
+        int rawDropped = bedPartitionManager.dropBefore(BedTable.SAMPLE, now - rawDays * MINUTES_PER_DAY);
+        rawDropped += bedPartitionManager.dropBefore(BedTable.RUN, now - rawDays * MINUTES_PER_DAY);
+        int rollupDropped = bedPartitionManager.dropBefore(BedTable.ROLLUP, now - rollupDays * MINUTES_PER_DAY);
+        log.info("병상 수 보관 기간 정리 완료 (원본 파티션: {}, 집계 파티션: {})", rawDropped, rollupDropped);
+    }
+}
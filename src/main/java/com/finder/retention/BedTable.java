@@ -0,0 +1,51 @@
+package com.finder.retention;
+
+public enum BedTable { // 파티션 관리 대상 병상 수 테이블
+    // 원본 분 단위 데이터 (1일 파티션)
+    SAMPLE("bed_sample", "epoch_minute", 24 * 60, true),
+
+    // 15분, 1시간 집계 (1주 파티션)
+    ROLLUP("bed_rollup", "bucket_minute", 7 * 24 * 60, true),
+
+    // 병상 수 변경 구간 (종료 시각이 바뀌므로 파티션 없이 1일 단위 범위 삭제, 끝나지 않은 구간은 삭제되지 않음)
+    RUN("bed_run", "to_minute", 24 * 60, false);
+
+    private final String tableName;
+
+    // 파티션 키 컬럼 (epoch 기준 분)
+    private final String minuteColumn;
+
+    // 파티션 크기 (분)
+    private final int partitionMinutes;
+
+    // 파티션 적용 대상 여부 (db/oracle/bed_partitioning.sql)
+    private final boolean partitioned;
+
+    BedTable(String tableName, String minuteColumn, int partitionMinutes, boolean partitioned) {
+        this.tableName = tableName;
+        this.minuteColumn = minuteColumn;
+        this.partitionMinutes = partitionMinutes;
+        this.partitioned = partitioned;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getMinuteColumn() {
+        return minuteColumn;
+    }
+
+    public int getPartitionMinutes() {
+        return partitionMinutes;
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    // 시각이 속한 파티션의 시작 시각
+    public int partitionOf(int epochMinute) {
+        return Math.floorDiv(epochMinute, partitionMinutes) * partitionMinutes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.finder.retention;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "bed.partition.mode", havingValue = "emulated", matchIfMissing = true)
+public class EmulatedBedPartitionManager extends BedPartitionManager { // 파티션 미지원 DB(H2) 용, 파티션 범위를 한 번에 삭제
+    public EmulatedBedPartitionManager(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected boolean dropPartition(BedTable table, int partitionStart) {
+        return deleteRange(table, partitionStart);
+    }
+}
@@ -0,0 +1,46 @@
+package com.finder.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.SQLException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bed.partition.mode", havingValue = "oracle")
+public class OracleBedPartitionManager extends BedPartitionManager { // Oracle 인터벌 파티션 삭제 (db/oracle/bed_partitioning.sql 적용 필요)
+    // 파티션이 없는 범위 (ORA-02149, ORA-14702)
+    private static final int[] MISSING_PARTITION_ERRORS = { 2149, 14702 };
+
+    public OracleBedPartitionManager(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected boolean dropPartition(BedTable table, int partitionStart) {
+        if (!table.isPartitioned()) return deleteRange(table, partitionStart);
+
+        try {
+            jdbcTemplate.execute("alter table " + table.getTableName() + " drop partition for (" + partitionStart + ") update global indexes");
+            return true;
+        } catch (DataAccessException e) {
+            if (isMissingPartition(e)) return false;
+
+            // 파티션 미적용 테이블인 경우 범위 삭제로 대체
+            log.warn("{} 파티션 삭제 실패, 범위 삭제로 대체: {}", table.getTableName(), e.getMostSpecificCause().toString());
+            return deleteRange(table, partitionStart);
+        }
+    }
+
+    private static boolean isMissingPartition(DataAccessException e) {
+        if (!(e.getMostSpecificCause() instanceof SQLException)) return false;
+
+        int errorCode = ((SQLException) e.getMostSpecificCause()).getErrorCode();
+        for (int missing : MISSING_PARTITION_ERRORS) {
+            if (errorCode == missing) return true;
+        }
+        return false;
+    }
+}
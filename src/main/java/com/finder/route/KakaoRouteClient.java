@@ -0,0 +1,262 @@
+package com.finder.route;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "route.client", havingValue = "kakao", matchIfMissing = true)
+public class KakaoRouteClient implements RouteClient { // 카카오모빌리티 길찾기 API 클라이언트 (스레드 안전)
+    // 파서 생성용 팩토리 (스레드 안전, 재사용)
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 다중 목적지 길찾기 API 요청당 최대 목적지 수
+    private static final int MAX_DESTINATIONS = 30;
+
+    // 커넥션 풀, keep-alive 를 공유하는 HTTP 클라이언트 (HTTP/2 우선 사용)
+    private final HttpClient httpClient;
+
+    private final String baseUrl;
+
+    private final String restKey;
+
+    // 요청별 응답 대기 시간 (기본값은 병원 목록의 길찾기 응답 마감 시간과 같게 두어, 마감 후 남은 요청이 스레드 풀을 오래 점유하지 않도록 함)
+    private final Duration readTimeout;
+
+    // 다중 목적지 길찾기 탐색 반경 (m, 최대 10000)
+    private final int destinationRadius;
+
+    public KakaoRouteClient(@Value("${kakao.key}") String restKey,
+                            @Value("${kakao.base-url:https://apis-navi.kakaomobility.com}") String baseUrl,
+                            @Value("${kakao.connect-timeout:1000}") long connectTimeout,
+                            @Value("${kakao.read-timeout:${kakao.route.deadline:1500}}") long readTimeout,
+                            @Value("${kakao.destinations.radius:10000}") int destinationRadius) {
+        this.restKey = restKey;
+        this.baseUrl = baseUrl;
+        this.readTimeout = Duration.ofMillis(readTimeout);
+        this.destinationRadius = destinationRadius;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build();
+    }
+
+    // 출발지 -> 목적지 거리, 소요 시간 조회
+    @Override
+    public RouteSummary route(double originLat, double originLon, double destinationLat, double destinationLon) {
+        URI uri = URI.create(baseUrl + "/v1/directions?origin=" + originLon + "," + originLat +
+                "&destination=" + destinationLon + "," + destinationLat +
+                "&waypoints=&priority=RECOMMEND&car_fuel=GASOLINE&car_hipass=false&alternatives=false&road_details=false");
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Authorization", "KakaoAK " + restKey) // 인증키 등록
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new RuntimeException("길찾기 API 응답 오류: " + response.statusCode());
+                }
+                // 응답 데이터 내 거리, 소요 시간 정보 매핑
+                return parseSummary(body);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("길찾기 API 요청 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("길찾기 API 요청 중단", e);
+        }
+    }
+
+    // 다중 목적지 길찾기 API 사용, 목적지 30개 단위 요청을 동시에 전송
+    @Override
+    public List<RouteSummary> routes(double originLat, double originLon, List<RouteDestination> destinations) {
+        List<CompletableFuture<Map<Integer, RouteSummary>>> futures = new ArrayList<>();
+        for (int from = 0; from < destinations.size(); from += MAX_DESTINATIONS) {
+            int to = Math.min(from + MAX_DESTINATIONS, destinations.size());
+            futures.add(requestDestinations(originLat, originLon, destinations, from, to));
+        }
+
+        // 응답의 key(목적지 인덱스) 기준으로 결과 정렬
+        RouteSummary[] routes = new RouteSummary[destinations.size()];
+        for (CompletableFuture<Map<Integer, RouteSummary>> future : futures) {
+            future.join().forEach((index, route) -> routes[index] = route);
+        }
+
+        return Arrays.asList(routes);
+    }
+
+    // 다중 목적지 길찾기 API 비동기 요청 (실패 시 빈 결과)
+    private CompletableFuture<Map<Integer, RouteSummary>> requestDestinations(double originLat, double originLon,
+                                                                            List<RouteDestination> destinations, int from, int to) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/destinations/directions"))
+                .timeout(readTimeout)
+                .header("Authorization", "KakaoAK " + restKey) // 인증키 등록
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(destinationsBody(originLat, originLon, destinations, from, to)))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    try (InputStream body = response.body()) {
+                        if (response.statusCode() != 200) {
+                            throw new RuntimeException("다중 목적지 길찾기 API 응답 오류: " + response.statusCode());
+                        }
+                        return parseDestinations(body);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .exceptionally(e -> {
+                    log.warn("다중 목적지 길찾기 API 요청 실패: {}", e.toString());
+                    return Collections.emptyMap();
+                });
+    }
+
+    // 다중 목적지 길찾기 요청 본문 생성 (key = 목적지 인덱스)
+    private String destinationsBody(double originLat, double originLon, List<RouteDestination> destinations, int from, int to) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("origin");
+            generator.writeStringField("x", String.valueOf(originLon));
+            generator.writeStringField("y", String.valueOf(originLat));
+            generator.writeEndObject();
+
+            generator.writeArrayFieldStart("destinations");
+            for (int i = from; i < to; i++) {
+                RouteDestination destination = destinations.get(i);
+                generator.writeStartObject();
+                generator.writeStringField("x", String.valueOf(destination.getLon()));
+                generator.writeStringField("y", String.valueOf(destination.getLat()));
+                generator.writeStringField("key", String.valueOf(i));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeNumberField("radius", destinationRadius);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return writer.toString();
+    }
+
+    // 다중 목적지 응답 스트림에서 목적지별 거리, 소요 시간 매핑 (경로 탐색 실패 목적지 제외)
+    static Map<Integer, RouteSummary> parseDestinations(InputStream in) throws IOException {
+        Map<Integer, RouteSummary> routes = new HashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new RuntimeException("다중 목적지 길찾기 API 응답 형식 오류");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("routes".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readDestinationRoute(parser, routes);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return routes;
+    }
+
+    private static void readDestinationRoute(JsonParser parser, Map<Integer, RouteSummary> routes) throws IOException {
+        String key = null;
+        int resultCode = -1;
+        RouteSummary summary = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("key".equals(field)) key = parser.getValueAsString();
+            else if ("result_code".equals(field)) resultCode = parser.getIntValue();
+            else if ("summary".equals(field) && value == JsonToken.START_OBJECT) summary = readSummary(parser);
+            else parser.skipChildren();
+        }
+
+        if (resultCode == 0 && key != null && summary != null) routes.put(Integer.parseInt(key), summary);
+    }
+
+    // 응답 스트림에서 routes[0].summary 의 거리, 소요 시간만 읽고 나머지는 건너뜀
+    static RouteSummary parseSummary(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new RuntimeException("길찾기 API 응답 형식 오류");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("routes".equals(field) && value == JsonToken.START_ARRAY) {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) return readRoute(parser);
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+
+        throw new RuntimeException("길찾기 경로가 존재하지 않습니다.");
+    }
+
+    // 경로 객체 내 summary 필드 탐색
+    private static RouteSummary readRoute(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("summary".equals(field) && value == JsonToken.START_OBJECT) return readSummary(parser);
+            parser.skipChildren();
+        }
+
+        throw new RuntimeException("길찾기 경로가 존재하지 않습니다.");
+    }
+
+    // summary 객체 끝까지 읽으며 거리, 소요 시간 조회
+    private static RouteSummary readSummary(JsonParser parser) throws IOException {
+        int distance = -1;
+        int duration = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("distance".equals(field)) distance = parser.getIntValue();
+            else if ("duration".equals(field)) duration = parser.getIntValue();
+            else parser.skipChildren();
+        }
+
+        if (distance < 0 || duration < 0) throw new RuntimeException("길찾기 경로 요약 정보가 존재하지 않습니다.");
+
+        return new RouteSummary(distance, duration);
+    }
+}
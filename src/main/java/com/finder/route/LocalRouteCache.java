@@ -0,0 +1,57 @@
+package com.finder.route;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "route.cache.type", havingValue = "local", matchIfMissing = true)
+public class LocalRouteCache implements RouteCache { // 힙 메모리 경로 캐시 (LRU + TTL)
+    private final long ttl;
+
+    private final Map<String, Entry> entries;
+
+    public LocalRouteCache(@Value("${route.cache.ttl:300}") long ttlSeconds,
+                           @Value("${route.cache.max-size:10000}") int maxSize) {
+        this.ttl = ttlSeconds * 1000;
+        // 접근 순서 기준 정렬, 최대 크기 초과 시 가장 오래 사용하지 않은 항목 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized RouteSummary get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        // 만료된 항목 제거
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.route;
+    }
+
+    @Override
+    public synchronized void put(String key, RouteSummary route) {
+        entries.put(key, new Entry(route, System.currentTimeMillis() + ttl));
+    }
+
+    private static class Entry {
+        private final RouteSummary route;
+
+        private final long expiresAt;
+
+        private Entry(RouteSummary route, long expiresAt) {
+            this.route = route;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.finder.route;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "route.cache.type", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRouteCache implements RouteCache { // Redis 경로 캐시 (크기 제한은 TTL과 Redis maxmemory 정책에 위임)
+    private static final String PREFIX = "route:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${route.cache.ttl:300}")
+    private long ttl;
+
+    @Override
+    public RouteSummary get(String key) {
+        try {
+            // "거리,소요 시간" 형식으로 저장
+            String value = stringRedisTemplate.opsForValue().get(PREFIX + key);
+            if (value == null) return null;
+
+            String[] values = value.split(",");
+            return new RouteSummary(Integer.parseInt(values[0]), Integer.parseInt(values[1]));
+        } catch (Exception e) { // Redis 장애 시 캐시 미스로 처리
+            log.warn("경로 캐시 조회 실패: {}", e.toString());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, RouteSummary route) {
+        try {
+            stringRedisTemplate.opsForValue().set(PREFIX + key, route.getDistance() + "," + route.getDuration(), ttl, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("경로 캐시 저장 실패: {}", e.toString());
+        }
+    }
+}
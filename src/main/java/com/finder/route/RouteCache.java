@@ -0,0 +1,18 @@
+package com.finder.route;
+
+public interface RouteCache { // 출발지 격자 + 병원 단위 경로 캐시
+    // 출발지 좌표 양자화 단위 (0.001도, 약 100m)
+    double ORIGIN_CELL_SIZE = 0.001;
+
+    RouteSummary get(String key);
+
+    void put(String key, RouteSummary route);
+
+    // 출발지 격자, 병원 id 기준 캐시 키 생성
+    static String key(double originLat, double originLon, Long hospitalId) {
+        long latCell = (long) Math.floor(originLat / ORIGIN_CELL_SIZE);
+        long lonCell = (long) Math.floor(originLon / ORIGIN_CELL_SIZE);
+
+        return latCell + ":" + lonCell + ":" + hospitalId;
+    }
+}
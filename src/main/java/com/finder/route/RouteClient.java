@@ -0,0 +1,11 @@
+package com.finder.route;
+
+import java.util.List;
+
+public interface RouteClient { // 길찾기 클라이언트
+    // 출발지 -> 목적지 거리, 소요 시간 조회
+    RouteSummary route(double originLat, double originLon, double destinationLat, double destinationLon);
+
+    // 출발지 -> 다수 목적지 거리, 소요 시간 일괄 조회 (목적지 순서와 동일, 경로가 없는 목적지는 null)
+    List<RouteSummary> routes(double originLat, double originLon, List<RouteDestination> destinations);
+}
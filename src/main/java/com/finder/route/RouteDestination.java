@@ -0,0 +1,12 @@
+package com.finder.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RouteDestination { // 길찾기 목적지 좌표
+    private final double lat;
+
+    private final double lon;
+}
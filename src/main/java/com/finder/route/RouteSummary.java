@@ -0,0 +1,14 @@
+package com.finder.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RouteSummary { // 경로 요약 정보
+    // 거리 (m)
+    private final int distance;
+
+    // 소요 시간 (초)
+    private final int duration;
+}
@@ -0,0 +1,59 @@
+package com.finder.route;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "route.client", havingValue = "stub")
+public class StubRouteClient implements RouteClient { // 테스트, 벤치마크용 길찾기 클라이언트 (외부 API 미사용)
+    // 직선 거리 대비 도로 거리 비율
+    private static final double DETOUR_FACTOR = 1.3;
+
+    // 평균 속도 (m/s, 약 30km/h)
+    private static final double SPEED = 8.3;
+
+    // 위도 1도당 거리 (m)
+    private static final double METER_PER_DEGREE = 111_320.;
+
+    // 요청당 인위적 지연 시간 (ms)
+    @Value("${route.stub.latency:0}")
+    private long latency;
+
+    @Override
+    public RouteSummary route(double originLat, double originLon, double destinationLat, double destinationLon) {
+        delay();
+        return estimate(originLat, originLon, destinationLat, destinationLon);
+    }
+
+    @Override
+    public List<RouteSummary> routes(double originLat, double originLon, List<RouteDestination> destinations) {
+        delay();
+        List<RouteSummary> routes = new ArrayList<>(destinations.size());
+        for (RouteDestination destination : destinations) {
+            routes.add(estimate(originLat, originLon, destination.getLat(), destination.getLon()));
+        }
+
+        return routes;
+    }
+
+    // 평면 근사 직선 거리 기준 거리, 소요 시간 추정 (재생 서버 응답 생성에도 사용)
+    public static RouteSummary estimate(double originLat, double originLon, double destinationLat, double destinationLon) {
+        double dy = (destinationLat - originLat) * METER_PER_DEGREE;
+        double dx = (destinationLon - originLon) * METER_PER_DEGREE * Math.cos(Math.toRadians(originLat));
+        int distance = (int) (Math.sqrt(dx * dx + dy * dy) * DETOUR_FACTOR);
+
+        return new RouteSummary(distance, (int) (distance / SPEED));
+    }
+
+    private void delay() {
+        if (latency <= 0) return;
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
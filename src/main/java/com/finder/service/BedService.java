@@ -1,87 +1,202 @@
 package com.finder.service;
 
 import com.finder.domain.Bed;
+import com.finder.domain.BedRollup;
 import com.finder.dto.BedDataDto;
-import com.finder.repository.BedRepository;
+import com.finder.dto.BedHistoryDto;
+import com.finder.repository.BedRollupRepository;
+import com.finder.repository.BedSampleStore;
+import com.finder.tracker.BedRingBuffer;
+import com.finder.tracker.BedRollupAggregator;
+import com.finder.tracker.BedSeries;
+import com.finder.tracker.BedWindowStats;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
-public class BedService {
-    private final BedRepository bedRepository;
+public class BedService { // 최근 병상 수, 구간 집계는 메모리에서 조회 (수집이 멈춘 경우에만 DB 조회)
+    private final BedSampleStore bedSampleStore;
 
-    // 현재 시간 기준 응급실 병상 수 조회
-    public Integer findByNameAndTime(String name) {
-        LocalDateTime now = LocalDateTime.now().minusMinutes(1);
-        Bed bed = bedRepository.findByNameAndTime(name, now);
-        bed = (bed == null) ? bedRepository.findByNameAndTime(name, now.minusMinutes(1)) : bed;
+    private final BedRollupRepository bedRollupRepository;
 
-        return (bed == null) ? 0 : bed.getCount();
+    private final BedRingBuffer bedRingBuffer;
+
+    private final BedRollupAggregator bedRollupAggregator;
+
+    // 최근 2시간 조회 구간 (분)
+    private static final int RECENT_MINUTES = 120;
+
+    // 최근 2시간 15분 구간 수
+    private static final int RECENT_QUARTERS = RECENT_MINUTES / BedRollup.QUARTER;
+
+    // 1시간 집계 조회 최대 기간 (7일)
+    private static final int MAX_HISTORY_HOURS = 7 * 24;
+
+    // 최근 2시간 15분 구간 집계 복사용 스레드별 버퍼 ([구간 시작 병상 수, 이용 가능 분 수], 집계, 원본 데이터 보충용)
+    private static final ThreadLocal<int[][]> ROLLUP_BUFFER = ThreadLocal.withInitial(() -> new int[4][RECENT_QUARTERS]);
+
+    // 최근 2시간 원본 데이터 복사용 스레드별 버퍼 ([분, 병상 수], 누락 보정용 앞부분 포함)
+    private static final ThreadLocal<int[][]> RECENT_BUFFER =
+            ThreadLocal.withInitial(() -> new int[2][RECENT_MINUTES + BedRingBuffer.CARRY_MINUTES]);
+
+    // 현재 시간 기준 응급실 병상 수 조회 (1분 전 데이터가 없으면 2분 전 데이터 사용)
+    public Integer findCurrentCount(Long hospitalId) {
+        int now = Bed.toEpochMinute(LocalDateTime.now()) - 1;
+        if (bedRingBuffer.covers(now - 1)) {
+            Integer count = bedRingBuffer.findLatest(hospitalId, now - 1, now);
+            return (count == null) ? 0 : count;
+        }
+
+        List<Bed> beds = bedSampleStore.findByRange(hospitalId, now - 1, now);
+
+        return beds.isEmpty() ? 0 : beds.get(beds.size() - 1).getCount();
+    }
+
+    // 현재 시간 기준 전체 응급실 병상 수 조회 (병원 id -> 병상 수)
+    public Map<Long, Integer> findCurrentCounts() {
+        int now = Bed.toEpochMinute(LocalDateTime.now()) - 1;
+
+        return latestCounts(bedSampleStore.findAllByRange(now - 1, now));
+    }
+
+    // 여러 병원의 현재 병상 수 일괄 조회 (병원 id -> 병상 수, 데이터가 없는 병원은 제외)
+    public Map<Long, Integer> findCurrentCounts(Collection<Long> hospitalIds) {
+        if (hospitalIds.isEmpty()) return Collections.emptyMap();
+
+        int now = Bed.toEpochMinute(LocalDateTime.now()) - 1;
+        if (!bedRingBuffer.covers(now - 1)) {
+            return latestCounts(bedSampleStore.findAllByRange(hospitalIds, now - 1, now));
+        }
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Long hospitalId : hospitalIds) {
+            Integer count = bedRingBuffer.findLatest(hospitalId, now - 1, now);
+            if (count != null) counts.put(hospitalId, count);
+        }
+
+        return counts;
+    }
+
+    // 병원별 가장 최근 병상 수만 유지
+    private static Map<Long, Integer> latestCounts(List<Bed> beds) {
+        Map<Long, Bed> latest = new HashMap<>();
+        for (Bed bed : beds) {
+            latest.merge(bed.getHospitalId(), bed, (o1, o2) -> (o1.getEpochMinute() > o2.getEpochMinute()) ? o1 : o2);
+        }
+
+        Map<Long, Integer> counts = new HashMap<>();
+        latest.forEach((hospitalId, bed) -> counts.put(hospitalId, bed.getCount()));
+
+        return counts;
     }
 
-    // 최근 2시간 기준 응급실 병상 수 조회
-    public BedDataDto findByRecent(String name) {
-        LocalDateTime currentTime = LocalDateTime.now().minusMinutes(1);
-        LocalDateTime twoHourAgoTime = currentTime.minusHours(2);
+    // 최근 2시간 기준 응급실 병상 수 조회 (마감된 15분 구간 8개 집계 + 현재 병상 수)
+    // 이용 가능 시간, 비율은 수집 중이면 수집 시 갱신되는 최근 120분 통계, 수집이 멈춘 경우 같은 8개 구간 합계
+    public BedDataDto findByRecent(Long hospitalId) {
+        int currentMinute = Bed.toEpochMinute(LocalDateTime.now()) - 1;
+        // 현재 15분 구간 직전까지 마감된 8개 구간 (2시간)
+        int fromQuarter = BedRollup.bucketOf(currentMinute, BedRollup.QUARTER) - RECENT_MINUTES;
+
+        int[][] buffer = ROLLUP_BUFFER.get();
+        int[] boundaryCounts = buffer[0];
+        int[] availableMinutes = buffer[1];
+        int found;
+        if (bedRingBuffer.covers(currentMinute - 1)) {
+            found = bedRollupAggregator.findQuarters(hospitalId, fromQuarter, RECENT_QUARTERS, boundaryCounts, availableMinutes);
+        } else {
+            found = copy(bedRollupRepository.findByRange(hospitalId, BedRollup.QUARTER, fromQuarter,
+                    fromQuarter + RECENT_MINUTES - 1), fromQuarter, boundaryCounts, availableMinutes);
+        }
 
-        // 최근 2시간 기준 병상 수 데이터
-        List<Bed> twoHourAgoBeds = bedRepository.findByRecent(name, twoHourAgoTime, currentTime);
+        // 집계가 없는 구간이 있으면 (집계 도입 직후, 수집 누락 등) 해당 구간만 원본 데이터를 같은 누락 보정 기준으로 집계
+        if (found < RECENT_QUARTERS) fillFromRaw(hospitalId, currentMinute, fromQuarter, boundaryCounts, availableMinutes, buffer[2], buffer[3]);
 
-        // 시간 순 오름차순 정렬
-        Collections.sort(twoHourAgoBeds, (Bed o1, Bed o2) -> o1.getLocalDateTime().compareTo(o2.getLocalDateTime()));
+        int totalMinute = 0;
+        List<Integer> bedIntervalList = new ArrayList<>(RECENT_QUARTERS + 1);
+        for (int i = 0; i < RECENT_QUARTERS; i++) {
+            totalMinute += Math.max(0, availableMinutes[i]);
+            bedIntervalList.add(Math.max(0, boundaryCounts[i]));
+        }
+        // 수집 중인 경우 수집 시 갱신된 최근 2시간 통계 사용 (15분 구간 합계 대신 현재 시각까지의 정확한 2시간 구간)
+        BedWindowStats stats = bedRingBuffer.covers(currentMinute - 1) ? bedRingBuffer.findStats(hospitalId) : null;
+        if (stats != null) totalMinute = stats.getAvailableMinutes();
+        // 현재 병상 수 저장
+        bedIntervalList.add(Math.max(0, findCurrentCount(hospitalId)));
 
-        // 병상 이용 가능 시간(분) 조회
-        Integer totalMinute = getTotalMinute(twoHourAgoBeds);
-        // 병상 이용 가능 시간 문자열 매핑
         String availableTime = availableTimeToStringMap(totalMinute);
-        // 병상 이용 가능 시간 비율 매핑
         Double percent = availableTimeToPercent(totalMinute);
         Double otherPercent = Math.round((100 - percent) * 10.0) / 10.0;
 
-        // 최근 2시간 기준 15분 간격 병상 수 조회
-        List<Integer> bedIntervalList = getBedIntervalList(twoHourAgoBeds);
-
-        // 트래커 미 실행 시
-        if(bedIntervalList.size() < 8) {
-            Integer size = bedIntervalList.size();
-            for (int i = 0; i <= 8 - size; i++) {
-                bedIntervalList.add(0);
-            }
-        } else if(bedIntervalList.size() == 8) { // 현재 시간 데이터가 비어있을 때
-            // 최근 병상 수 저장
-            bedIntervalList.add(Math.max(0, twoHourAgoBeds.get(twoHourAgoBeds.size() - 1).getCount()));
+        return new BedDataDto(availableTime, percent, otherPercent, bedIntervalList);
+    }
+
+    // 집계가 없는 15분 구간을 원본 데이터로 집계하여 채움 (조회 범위는 첫, 마지막 빈 구간 사이로 한정)
+    // 범위 전체가 버퍼에 있으면 버퍼, 아니면 DB 조회
+    private void fillFromRaw(Long hospitalId, int currentMinute, int fromQuarter, int[] boundaryCounts, int[] availableMinutes,
+                             int[] rawBoundaryCounts, int[] rawAvailableMinutes) {
+        int first = 0;
+        while (availableMinutes[first] != BedRollupAggregator.MISSING) first++;
+        int last = RECENT_QUARTERS - 1;
+        while (availableMinutes[last] != BedRollupAggregator.MISSING) last--;
+
+        int rangeQuarter = fromQuarter + first * BedRollup.QUARTER;
+        int quarters = last - first + 1;
+        // 첫 구간 시작 시각의 누락 보정을 위해 CARRY_MINUTES 만큼 앞에서부터 조회
+        int fromMinute = rangeQuarter - BedRingBuffer.CARRY_MINUTES;
+        int toMinute = rangeQuarter + quarters * BedRollup.QUARTER - 1;
+
+        int[][] buffer = RECENT_BUFFER.get();
+        int[] minutes = buffer[0];
+        int[] counts = buffer[1];
+        int size;
+        if (bedRingBuffer.covers(currentMinute - 1) && currentMinute - fromMinute < BedRingBuffer.CAPACITY) {
+            size = bedRingBuffer.copyRange(hospitalId, fromMinute, toMinute, minutes, counts);
+        } else {
+            size = copy(bedSampleStore.findByRange(hospitalId, fromMinute, toMinute), minutes, counts);
         }
 
-        return new BedDataDto(availableTime, percent, otherPercent, bedIntervalList);
+        BedSeries.aggregateQuarters(minutes, counts, size, rangeQuarter, quarters, rawBoundaryCounts, rawAvailableMinutes);
+        for (int i = first; i <= last; i++) {
+            if (availableMinutes[i] != BedRollupAggregator.MISSING) continue;
+            boundaryCounts[i] = rawBoundaryCounts[i - first];
+            availableMinutes[i] = rawAvailableMinutes[i - first];
+        }
     }
 
-    // 병상을 이용 가능했던 시간 조회 (분 단위)
-    private Integer getTotalMinute(List<Bed> twoAgoBeds) {
-        Integer totalMinute = 0;
-        Integer size = twoAgoBeds.size();
-        LocalDateTime oneMinuteAgo = (size > 0) ? twoAgoBeds.get(0).getLocalDateTime().minusMinutes(1) : null;
-
-        for (int i = 0; i < size; i++) {
-            Bed bed = twoAgoBeds.get(i);
-            if (localDateTimeEq(bed.getLocalDateTime(), oneMinuteAgo.plusMinutes(1)) && bed.getCount() > 0) {
-                totalMinute += 1;
-            } else if (i - 1 > 0) { // 중간에 데이터가 없을 경우
-                // 2분 전 병상 수 저장
-                if(twoAgoBeds.get(i - 1).getCount() > 0) totalMinute +=1;
-                // 현재 병상 수 저장
-                if(bed.getCount() > 0) totalMinute += 1;
-            }
-            oneMinuteAgo = bed.getLocalDateTime();
+    // 최근 hours 시간 기준 병상 이용 가능 시간 조회 (마감된 1시간 집계만 사용, 원본 데이터, 15분 집계 조회 없음)
+    public BedHistoryDto findByHours(Long hospitalId, int hours) {
+        if (hours < 1 || hours > MAX_HISTORY_HOURS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 1시간 이상 " + MAX_HISTORY_HOURS + "시간 이하여야 합니다.");
         }
 
-        return totalMinute;
+        int currentMinute = Bed.toEpochMinute(LocalDateTime.now()) - 1;
+        // 현재 1시간 구간 직전까지 마감된 hours 개 구간
+        int fromHour = BedRollup.bucketOf(currentMinute, BedRollup.HOUR) - hours * BedRollup.HOUR;
+
+        int totalMinute = 0;
+        Integer[] hourCounts = new Integer[hours];
+        Arrays.fill(hourCounts, 0);
+        for (BedRollup rollup : bedRollupRepository.findByRange(hospitalId, BedRollup.HOUR, fromHour, fromHour + hours * BedRollup.HOUR - 1)) {
+            hourCounts[(rollup.getBucketMinute() - fromHour) / BedRollup.HOUR] = Math.max(0, rollup.getBoundaryCount());
+            totalMinute += rollup.getAvailableMinutes();
+        }
+
+        String availableTime = availableTimeToStringMap(totalMinute);
+        Double percent = toPercent(totalMinute, hours * BedRollup.HOUR);
+        Double otherPercent = Math.round((100 - percent) * 10.0) / 10.0;
+
+        return new BedHistoryDto(availableTime, percent, otherPercent, Arrays.asList(hourCounts));
     }
 
     private String availableTimeToStringMap(Integer totalMinute) {
@@ -92,41 +207,37 @@ public class BedService {
     }
 
     private Double availableTimeToPercent(Integer totalMinute) {
-        Double percent = (totalMinute / 120.) * 100;
+        return toPercent(totalMinute, RECENT_MINUTES);
+    }
+
+    // 조회 구간 (분) 대비 이용 가능 시간 비율 (소수점 첫째 자리)
+    private static Double toPercent(int totalMinute, int windowMinutes) {
+        Double percent = ((double) totalMinute / windowMinutes) * 100;
         percent = Math.round(percent * 10.0) / 10.0;
 
         return percent;
     }
 
-    // 최근 2시간 기준 15분 간격 병상 수 조회
-    private List<Integer> getBedIntervalList(List<Bed> twoAgoBeds) {
-        LocalDateTime currentTime = (twoAgoBeds.size() > 0) ? twoAgoBeds.get(0).getLocalDateTime() : null;
-        Integer size = twoAgoBeds.size();
-        List<Integer> bedIntervalList = new ArrayList<>();
-
-        for (int i = 0; i < size; i++) {
-            Bed bed = twoAgoBeds.get(i);
-            LocalDateTime oneMinuteAgo = bed.getLocalDateTime().minusMinutes(1);
-
-            // 중간에 데이터가 없을 경우
-            if(localDateTimeEq(oneMinuteAgo, currentTime)) {
-                if((i - 1 >= 0) && localDateTimeEq(twoAgoBeds.get(i - 1).getLocalDateTime(), oneMinuteAgo.minusMinutes(1))) { // 1분 전 데이터가 있는 경우
-                    bedIntervalList.add(Math.max(0, twoAgoBeds.get(i - 1).getCount()));
-                } else bedIntervalList.add(0); // 1분 전 데이터가 없을 경우
-                currentTime = currentTime.plusMinutes(15);
-            }
-
-            // 데이터가 있는 경우
-            if(localDateTimeEq(bed.getLocalDateTime(), currentTime)) {
-                bedIntervalList.add(Math.max(0, bed.getCount()));
-                currentTime = currentTime.plusMinutes(15);
-            }
+    // 15분 구간 집계를 구간 순서 배열로 복사 (없는 구간은 병상 수 0, 이용 가능 분 수 MISSING), 데이터가 있는 구간 수 반환
+    private static int copy(List<BedRollup> rollups, int fromQuarter, int[] boundaryCounts, int[] availableMinutes) {
+        Arrays.fill(boundaryCounts, 0);
+        Arrays.fill(availableMinutes, BedRollupAggregator.MISSING);
+        for (BedRollup rollup : rollups) {
+            int i = (rollup.getBucketMinute() - fromQuarter) / BedRollup.QUARTER;
+            boundaryCounts[i] = rollup.getBoundaryCount();
+            availableMinutes[i] = rollup.getAvailableMinutes();
         }
 
-        return bedIntervalList;
+        return rollups.size();
     }
 
-    private Boolean localDateTimeEq(LocalDateTime t1, LocalDateTime t2) {
-        return (t1.getHour() == t2.getHour() && t1.getMinute() == t2.getMinute()) ? true : false;
+    // 시간 순 병상 데이터를 분, 병상 수 배열로 복사
+    private static int copy(List<Bed> beds, int[] minutes, int[] counts) {
+        for (int i = 0; i < beds.size(); i++) {
+            minutes[i] = beds.get(i).getEpochMinute();
+            counts[i] = beds.get(i).getCount();
+        }
+
+        return beds.size();
     }
-}
\ No newline at end of file
+}
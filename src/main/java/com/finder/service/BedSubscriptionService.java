@@ -0,0 +1,225 @@
+package com.finder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finder.dto.BedChangeDto;
+import com.finder.tracker.BedChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BedSubscriptionService { // 병상 수 변경 구독 (병원 id 별 구독자 색인, 바뀐 병원의 구독자에게만 전송)
+    // 구독자별 전송 대기 이벤트 상한 (초과 시 느린 연결로 보고 종료)
+    private static final int MAX_PENDING = 16;
+
+    private final BedService bedService;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("bedPushExecutor")
+    private final Executor bedPushExecutor;
+
+    // 병원 id -> 구독자
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // 연결된 구독자 전체 (연결 유지용 heartbeat 전송 대상)
+    private final Set<Subscriber> connected = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    // 구독 1건당 최대 병원 수
+    @Value("${bed.subscription.max-ids:100}")
+    private int maxIds;
+
+    // 구독 유지 시간 (ms, 만료 시 클라이언트가 다시 연결)
+    @Value("${bed.subscription.timeout:1800000}")
+    private long timeout;
+
+    @PostConstruct
+    public void initMetrics() {
+        meterRegistry.gauge("bed.subscription.active", active);
+    }
+
+    // 병원 목록 구독 (snapshot: 현재 병상 수, change: 이후 바뀐 병상 수)
+    public SseEmitter subscribe(Collection<Long> hospitalIds) {
+        Set<Long> ids = new LinkedHashSet<>(hospitalIds);
+        if (ids.isEmpty() || ids.size() > maxIds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "구독할 병원은 1개 이상 " + maxIds + "개 이하여야 합니다.");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout), ids);
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        // 색인 등록 후 현재 병상 수 조회 (사이에 바뀐 값은 snapshot 또는 change 중 하나로 전달됨)
+        for (Long id : ids) {
+            subscribers.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        connected.add(subscriber);
+        active.incrementAndGet();
+
+        Map<Long, Integer> counts = bedService.findCurrentCounts(ids);
+        List<BedChangeDto> snapshot = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            snapshot.add(new BedChangeDto(id, Math.max(0, counts.getOrDefault(id, 0))));
+        }
+        subscriber.enqueue("snapshot", toJson(snapshot));
+
+        return subscriber.emitter;
+    }
+
+    // 수집 경로에서 바뀐 병상 수 전달 (병원별로 한 번만 직렬화 후 구독자별 메시지로 묶어 전송)
+    @EventListener
+    public void onBedChanged(BedChangeEvent event) {
+        if (active.get() == 0) return;
+
+        Map<Subscriber, StringJoiner> messages = new HashMap<>();
+        event.getCounts().forEach((id, count) -> {
+            Set<Subscriber> targets = subscribers.get(id);
+            if (targets == null || targets.isEmpty()) return;
+
+            String json = toJson(new BedChangeDto(id, Math.max(0, count)));
+            for (Subscriber subscriber : targets) {
+                messages.computeIfAbsent(subscriber, key -> new StringJoiner(",", "[", "]")).add(json);
+            }
+        });
+
+        messages.forEach((subscriber, message) -> subscriber.enqueue("change", message.toString()));
+        log.debug("병상 수 변경 전송 (시각: {}, 병원 수: {}, 구독자 수: {})", event.getEpochMinute(), event.getCounts().size(), messages.size());
+    }
+
+    // 변경이 없는 동안에도 프록시, 로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트 전송
+    // 전송 대기 중인 이벤트가 있는 구독자는 생략 (느린 연결에 쌓이지 않도록)
+    @Scheduled(fixedRateString = "${bed.subscription.heartbeat-interval:15000}")
+    public void sendHeartbeat() {
+        for (Subscriber subscriber : connected) {
+            if (subscriber.pendingCount.get() == 0) subscriber.enqueue(SseEmitter.event().comment(""));
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) return;
+
+        connected.remove(subscriber);
+        for (Long id : subscriber.hospitalIds) {
+            subscribers.computeIfPresent(id, (key, targets) -> {
+                targets.remove(subscriber);
+                return targets.isEmpty() ? null : targets;
+            });
+        }
+        active.decrementAndGet();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("병상 수 변경 메시지 변환 실패", e);
+        }
+    }
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+
+        private final Set<Long> hospitalIds;
+
+        // 전송 대기 이벤트 (구독자별로 한 스레드만 순서대로 전송)
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pendingCount = new AtomicInteger();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Set<Long> hospitalIds) {
+            this.emitter = emitter;
+            this.hospitalIds = hospitalIds;
+        }
+
+        private void enqueue(String name, String data) {
+            enqueue(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) return;
+            if (pendingCount.incrementAndGet() > MAX_PENDING) {
+                close();
+                return;
+            }
+
+            pending.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                bedPushExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) { // 스레드 풀 포화 시 연결 종료 (클라이언트가 다시 구독)
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("병상 수 변경 전송 실패: {}", e.toString());
+                    close();
+                    return;
+                }
+            }
+
+            draining.set(false);
+            // 전송을 마친 직후 추가된 이벤트 처리
+            if (!pending.isEmpty()) schedule();
+        }
+
+        private void close() {
+            unsubscribe(this);
+            pending.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                log.debug("병상 수 구독 종료 실패: {}", e.toString());
+            }
+        }
+    }
+}
@@ -1,143 +1,414 @@
 package com.finder.service;
 
-import com.finder.domain.Hospital;
 import com.finder.dto.BedDataDto;
+import com.finder.dto.BedHistoryDto;
 import com.finder.dto.HospitalDetailDto;
 import com.finder.dto.HospitalPreviewDto;
+import com.finder.dto.HospitalPreviewPageDto;
+import com.finder.dto.MapClusterDto;
 import com.finder.dto.MapResponseDto;
-import com.finder.repository.HospitalRepository;
+import com.finder.geo.GeoDistance;
+import com.finder.geo.HospitalClusterIndex;
+import com.finder.geo.NearestSelector;
+import com.finder.snapshot.HospitalSnapshot;
+import com.finder.snapshot.HospitalSnapshotHolder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
-public class HospitalService {
-    private final HospitalRepository hospitalRepository;
+public class HospitalService { // 병원 기본 정보는 스냅샷에서 조회 (트랜잭션, 커넥션 미사용)
+    // 병원 목록 조회 반경 (m)
+    private static final double NEARBY_RADIUS = 5000.;
+
+    // 병원 목록 스트림 제한 시간 여유 (ms, 경로 조회 마감 시간에 더함)
+    private static final long STREAM_TIMEOUT_MARGIN = 1000;
+
+    private final HospitalSnapshotHolder hospitalSnapshotHolder;
+
+    private final HospitalClusterIndex hospitalClusterIndex;
 
     private final KakaoMobilityService kakaoMobilityService;
 
     private final BedService bedService;
 
+    @Qualifier("routeExecutor")
+    private final Executor routeExecutor;
+
+    // 병원 목록 한 페이지의 기본, 최대 병원 수
+    @Value("${hospital.list.default-limit:20}")
+    private int listDefaultLimit;
+
+    @Value("${hospital.list.max-limit:50}")
+    private int listMaxLimit;
+
+    // 병원 목록 스트리밍 시 경로 일괄 조회 단위
+    @Value("${hospital.stream.chunk-size:10}")
+    private int streamChunkSize;
+
+    // 병상 수 수집기 사용 여부
+    @Value("${bed.tracker.enabled:true}")
+    private boolean bedTrackerEnabled;
+
+    // 병원 목록 조회 시 길찾기 API 응답 대기 마감 시간 (ms)
+    @Value("${kakao.route.deadline:1500}")
+    private long routeDeadline;
+
     // 지도 내 병원 위치 조회
     public List<MapResponseDto> findHospitalMap(Double swLat, Double swLon, Double neLat, Double neLon) {
-        List<Hospital> hospitals = hospitalRepository.findHospitalMap(swLat, swLon, neLat, neLon);
-        List<MapResponseDto> mapResponseDtos = hospitals.stream()
-                .map(hospital -> new MapResponseDto(hospital.getId(), hospital.getLatitude(), hospital.getLongitude()))
-                .collect(Collectors.toList());
+        HospitalSnapshot snapshot = hospitalSnapshotHolder.getSnapshot();
+        double[] latitudes = snapshot.getLatitudes();
+        double[] longitudes = snapshot.getLongitudes();
+
+        // 위치 정보가 없는 병원(NaN)은 비교 결과가 항상 false 이므로 제외됨
+        List<MapResponseDto> mapResponseDtos = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (latitudes[i] >= swLat && latitudes[i] <= neLat && longitudes[i] >= swLon && longitudes[i] <= neLon) {
+                mapResponseDtos.add(new MapResponseDto(snapshot.getId(i), latitudes[i], longitudes[i]));
+            }
+        }
 
         return mapResponseDtos;
     }
 
+    // 지도 내 병원 클러스터 조회
+    public List<MapClusterDto> findHospitalMapClusters(Double swLat, Double swLon, Double neLat, Double neLon, Integer zoom) {
+        // 수집기가 꺼져 있으면 병상 수 합계가 오래된 경우 전체 병원 병상 수를 한 번에 조회하여 갱신 (켜져 있으면 수집 시 갱신)
+        if (!bedTrackerEnabled) hospitalClusterIndex.refreshHvecIfStale(bedService::findCurrentCounts);
+
+        return hospitalClusterIndex.findClusters(zoom, swLat, swLon, neLat, neLon);
+    }
+
     // 병원 미리 보기 조회
     public HospitalPreviewDto findHospitalPreview(Long id, Double lat, Double lon) {
-        Hospital hospital = hospitalRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("해당 병원이 존재하지 않습니다."));
-        // 병원의 거리, 도착 예정 시간, 병상 수 조회
-        HospitalPreviewDto hospitalPreviewDto = getHospitalPreviewInfo(lat, lon, hospital);
+        HospitalSnapshot snapshot = hospitalSnapshotHolder.getSnapshot();
+        int index = getIndex(snapshot, id);
+        // 거리, 도착 예정 시간 조회
+        Map<String, String> map = kakaoMobilityService.requestKakaoMobilityApi(lat, lon, snapshot.getId(index),
+                snapshot.getLatitude(index), snapshot.getLongitude(index));
+        // 병원의 병상 수 조회
+        HospitalPreviewDto hospitalPreviewDto = getHospitalPreviewInfo(snapshot, index, map, false);
 
         return hospitalPreviewDto;
     }
 
+    // 스냅샷 내 병원 인덱스 조회
+    private int getIndex(HospitalSnapshot snapshot, Long id) {
+        int index = snapshot.indexOf(id);
+        if (index < 0) throw new RuntimeException("해당 병원이 존재하지 않습니다.");
+
+        return index;
+    }
+
     // 병원의 거리, 도착 예정 시간, 병상 수 조회
-    private HospitalPreviewDto getHospitalPreviewInfo(Double lat, Double lon, Hospital hospital) {
-        // 거리, 도착 예정 시간 조회
-        Map<String, String> map = kakaoMobilityService.requestKakaoMobilityApi(lat, lon, hospital.getLatitude(), hospital.getLongitude());
+    private HospitalPreviewDto getHospitalPreviewInfo(HospitalSnapshot snapshot, int index, Map<String, String> map, boolean estimated) {
         // 병상 수 조회
-        Integer hvec = bedService.findByNameAndTime(hospital.getName());
+        Integer hvec = bedService.findCurrentCount(snapshot.getId(index));
         hvec = (hvec == null || hvec < 0) ? 0 : hvec;
 
-        return new HospitalPreviewDto(hospital.getId(), hospital.getName(), hospital.getAddress(), hospital.getRepresentativeContact(), hospital.getEmergencyContact(),
-                hvec, Double.parseDouble(map.get("distance")), map.get("arriveTime"));
+        return toPreview(snapshot, index, hvec, map, estimated);
     }
 
-    // 병원 목록 조회
-    public List<HospitalPreviewDto> findHospitalList(Double lat, Double lon) {
-        // 5km 반경 병원 조회
-        List<Hospital> nearbyHospitals = getNearbyHospitals(lat, lon);
+    private HospitalPreviewDto toPreview(HospitalSnapshot snapshot, int index, int hvec, Map<String, String> map, boolean estimated) {
+        return new HospitalPreviewDto(snapshot.getId(index), snapshot.getName(index), snapshot.getAddress(index),
+                snapshot.getRepresentativeContact(index), snapshot.getEmergencyContact(index),
+                hvec, Double.parseDouble(map.get("distance")), map.get("arriveTime"), estimated);
+    }
+
+    // 병원 목록 조회 (직선 거리 기준 상위 limit 개만 경로, 병상 수 조회, 이후 페이지는 커서로 조회)
+    public HospitalPreviewPageDto findHospitalList(Double lat, Double lon, Integer limit, String cursor) {
+        HospitalSnapshot snapshot = hospitalSnapshotHolder.getSnapshot();
+        NearbyPage page = selectNearbyPage(snapshot, lat, lon, limit, cursor);
+        int selectedCount = page.indexes.length;
+        int[] pageIndexes = page.indexes;
+
+        // 캐시된 경로는 바로 사용하고, 캐시 미스 병원만 일괄 요청 (마감 시간은 캐시 미스 요청에만 적용)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(routeDeadline);
+        List<Map<String, String>> routes = kakaoMobilityService.findCachedRoutes(lat, lon, snapshot, pageIndexes);
+        int[] missPositions = missingPositions(routes);
+        CompletableFuture<List<Map<String, String>>> missFuture = requestRoutesAsync(lat, lon, snapshot, select(pageIndexes, missPositions));
 
-        // 병원의 거리, 도착 예정 시간, 병상 수 조회
-        List<HospitalPreviewDto> hospitalPreviewDtos = nearbyHospitals.stream()
-                .map(nearbyHospital -> getHospitalPreviewInfo(lat, lon, nearbyHospital)).collect(Collectors.toList());
+        // 경로 응답을 기다리는 동안 페이지 내 병원 병상 수 일괄 조회
+        List<Long> pageIds = new ArrayList<>(selectedCount);
+        for (int index : pageIndexes) pageIds.add(snapshot.getId(index));
+        Map<Long, Integer> counts = bedService.findCurrentCounts(pageIds);
 
-        // 거리 기준 오름차순 정렬
+        List<Map<String, String>> fetched = awaitRoute(missFuture, deadline);
+        if (fetched != null) {
+            for (int j = 0; j < missPositions.length; j++) routes.set(missPositions[j], fetched.get(j));
+        }
+
+        // 병원의 거리, 도착 예정 시간, 병상 수 조회 (캐시에 없고 마감 시간 내 응답도 없으면 직선 거리 기준 추정)
+        List<HospitalPreviewDto> hospitalPreviewDtos = new ArrayList<>();
+        for (int i = 0; i < selectedCount; i++) {
+            int index = pageIndexes[i];
+            Map<String, String> map = routes.get(i);
+            boolean estimated = (map == null);
+            if (estimated) {
+                map = kakaoMobilityService.estimate(page.distances[i]);
+            }
+            int hvec = Math.max(0, counts.getOrDefault(pageIds.get(i), 0));
+            hospitalPreviewDtos.add(toPreview(snapshot, index, hvec, map, estimated));
+        }
+
+        // 페이지 내에서 경로 거리 기준 오름차순 정렬 (페이지 경계는 직선 거리 기준)
         Collections.sort(hospitalPreviewDtos, (HospitalPreviewDto o1, HospitalPreviewDto o2) -> Double.compare(o1.getDistance(), o2.getDistance()));
 
-        return hospitalPreviewDtos;
+        return new HospitalPreviewPageDto(hospitalPreviewDtos, page.nextCursor);
     }
 
-    // 5km 반경 병원 조회
-    private List<Hospital> getNearbyHospitals(Double lat, Double lon) {
-        List<Hospital> hospitals = hospitalRepository.findAll();
-        List<Hospital> nearbyHospitals;
+    // 병원 목록 스트리밍 조회 (목록 조회와 같은 limit, cursor 기준 페이지)
+    // 페이지 내 병원을 직선 거리, 현재 병상 수로 먼저 전송한 뒤 경로 조회가 끝나는 대로 갱신 정보 전송
+    public SseEmitter streamHospitalList(Double lat, Double lon, Integer limit, String cursor) {
+        HospitalSnapshot snapshot = hospitalSnapshotHolder.getSnapshot();
+        NearbyPage page = selectNearbyPage(snapshot, lat, lon, limit, cursor);
+        SseEmitter emitter = new SseEmitter(routeDeadline + STREAM_TIMEOUT_MARGIN);
+
+        // 캐시된 경로 (없으면 직선 거리 기준 추정 값), 현재 병상 수로 목록 즉시 전송 (병상 수는 목록 조회와 같은 버퍼, IN 조회 경로)
+        int[] indexes = page.indexes;
+        int pageCount = indexes.length;
+        List<Long> ids = new ArrayList<>(pageCount);
+        for (int index : indexes) ids.add(snapshot.getId(index));
+        Map<Long, Integer> counts = bedService.findCurrentCounts(ids);
+        List<Map<String, String>> cachedRoutes = kakaoMobilityService.findCachedRoutes(lat, lon, snapshot, indexes);
+        int[] hvecs = new int[pageCount];
+        List<HospitalPreviewDto> hospitalPreviewDtos = new ArrayList<>();
+        for (int i = 0; i < pageCount; i++) {
+            hvecs[i] = Math.max(0, counts.getOrDefault(ids.get(i), 0));
+            Map<String, String> map = cachedRoutes.get(i);
+            boolean estimated = (map == null);
+            if (estimated) map = kakaoMobilityService.estimate(page.distances[i]);
+            hospitalPreviewDtos.add(toPreview(snapshot, indexes[i], hvecs[i], map, estimated));
+        }
+        if (!send(emitter, "hospitals", hospitalPreviewDtos)) return emitter;
+        if (page.nextCursor != null && !send(emitter, "next", page.nextCursor)) return emitter;
+
+        // 페이지 내 캐시 미스 병원만 일정 개수 단위로 경로 일괄 조회 후 응답이 오는 대로 병원별 갱신 정보 전송
+        int[] missPositions = missingPositions(cachedRoutes);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int start = 0; start < missPositions.length; start += streamChunkSize) {
+            int[] positions = Arrays.copyOfRange(missPositions, start, Math.min(start + streamChunkSize, missPositions.length));
+            futures.add(requestRoutesAsync(lat, lon, snapshot, select(indexes, positions)).thenAccept(routes -> {
+                for (int i = 0; i < routes.size(); i++) {
+                    if (routes.get(i) == null) continue;
+                    int position = positions[i];
+                    send(emitter, "route", toPreview(snapshot, indexes[position], hvecs[position], routes.get(i), false));
+                }
+            }));
+        }
 
-        // 병원 필터링
-        nearbyHospitals = hospitals.stream()
-                .filter(h -> h.getLatitude() != null && h.getLongitude() != null)
-                .filter(h -> calculateStraightDistance(lat, lon, h.getLatitude(), h.getLongitude()) / 1000 <= 5)
-                .collect(Collectors.toList());
+        // 전체 응답 또는 마감 시간 도달 시 스트림 종료 (응답이 없는 병원은 추정 값 유지)
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .orTimeout(routeDeadline, TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> {
+                    send(emitter, "done", "");
+                    emitter.complete();
+                });
 
-        return nearbyHospitals;
+        return emitter;
     }
 
-    // 직선 거리 계산
-    public double calculateStraightDistance(Double lat1, Double lon1, Double lat2, Double lon2) {
-        Double earthRadius = 6371.;
-        // 위도 및 경도 차이
-        Double dLat = Math.toRadians(lat2 - lat1);
-        Double dLon = Math.toRadians(lon2 - lon1);
+    // 5km 반경 병원 중 커서 이후 직선 거리 기준 상위 limit 개 선택 (목록, 스트리밍 조회 공통)
+    private NearbyPage selectNearbyPage(HospitalSnapshot snapshot, Double lat, Double lon, Integer limit, String cursor) {
+        int pageSize = (limit == null) ? listDefaultLimit : Math.max(1, Math.min(limit, listMaxLimit));
+
+        // 5km 반경 병원 조회
+        int[] candidates = snapshot.getGridIndex().findCandidates(lat, lon, NEARBY_RADIUS);
+        int[] nearbyIndexes = new int[candidates.length];
+        double[] nearbyDistances = new double[candidates.length];
+        int nearbyCount = GeoDistance.filterWithinRadius(lat, lon, NEARBY_RADIUS, snapshot.getLatitudes(), snapshot.getLongitudes(),
+                candidates, candidates.length, nearbyIndexes, nearbyDistances);
+
+        // 커서 이후 병원 중 직선 거리 기준 상위 pageSize 개 선택
+        ListCursor after = (cursor == null || cursor.isEmpty()) ? ListCursor.FIRST : ListCursor.decode(cursor);
+        int[] selected = new int[Math.min(pageSize, nearbyCount)];
+        int remaining = NearestSelector.select(nearbyDistances, nearbyIndexes, snapshot.getIds(), nearbyCount, pageSize,
+                after.distance, after.id, selected);
+        int selectedCount = Math.min(pageSize, remaining);
 
-        // Haversine 공식 사용 거리 계산
-        Double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        Double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        Double distance = earthRadius * c * 1000;
+        int[] indexes = new int[selectedCount];
+        double[] distances = new double[selectedCount];
+        for (int i = 0; i < selectedCount; i++) {
+            indexes[i] = nearbyIndexes[selected[i]];
+            distances[i] = nearbyDistances[selected[i]];
+        }
 
-        return distance;
+        String nextCursor = null;
+        if (remaining > selectedCount) {
+            nextCursor = new ListCursor(distances[selectedCount - 1], snapshot.getId(indexes[selectedCount - 1])).encode();
+        }
+
+        return new NearbyPage(indexes, distances, nextCursor);
+    }
+
+    // SSE 이벤트 전송 (연결이 끊긴 경우 false)
+    private boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("병원 목록 스트림 전송 실패: {}", e.toString());
+            return false;
+        }
+    }
+
+    // 경로가 없는 (캐시 미스) 위치 목록
+    private static int[] missingPositions(List<Map<String, String>> routes) {
+        int[] positions = new int[routes.size()];
+        int size = 0;
+        for (int i = 0; i < routes.size(); i++) {
+            if (routes.get(i) == null) positions[size++] = i;
+        }
+        return Arrays.copyOf(positions, size);
+    }
+
+    private static int[] select(int[] indexes, int[] positions) {
+        int[] selected = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) selected[i] = indexes[positions[i]];
+        return selected;
+    }
+
+    // 캐시 미스 병원 길찾기 API 비동기 일괄 요청
+    private CompletableFuture<List<Map<String, String>>> requestRoutesAsync(Double lat, Double lon, HospitalSnapshot snapshot, int[] indexes) {
+        if (indexes.length == 0) return CompletableFuture.completedFuture(Collections.emptyList());
+        try {
+            return CompletableFuture.supplyAsync(() -> kakaoMobilityService.fetchRoutes(lat, lon, snapshot, indexes), routeExecutor);
+        } catch (RejectedExecutionException e) { // 스레드 풀 포화 시 추정 값 사용
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 마감 시간까지 길찾기 API 응답 대기 (실패 또는 시간 초과 시 null)
+    // CompletableFuture 취소는 routeExecutor 의 작업을 멈추지 않으므로, 늦은 요청은 HTTP 요청 시간 제한 (kakao.read-timeout) 으로 종료
+    private <T> T awaitRoute(CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("길찾기 API 요청 실패: {}", e.getCause().toString());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // 직선 거리 계산 (m)
+    public double calculateStraightDistance(double lat1, double lon1, double lat2, double lon2) {
+        return GeoDistance.haversine(lat1, lon1, lat2, lon2);
     }
 
     // 병원 상세 정보 조회
     public HospitalDetailDto findHospitalDetail(Long id, Double lat, Double lon) {
-        Hospital hospital = hospitalRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("해당 병원이 존재하지 않습니다."));
+        HospitalSnapshot snapshot = hospitalSnapshotHolder.getSnapshot();
+        int index = getIndex(snapshot, id);
         // 구급차, CT, MRI 여부 판단
-        HashMap<String, Boolean> map = isAMBAndCTAndMRI(hospital);
+        HashMap<String, Boolean> map = isAMBAndCTAndMRI(snapshot, index);
         // 병원의 거리, 도착 예정 시간, 병상 수, 병상 데이터 조회
-        HospitalDetailDto hospitalDetailDto = getHospitalDetailInfo(lat, lon, map.get("isAMB"), map.get("isCT"), map.get("isMRI"), hospital);
+        HospitalDetailDto hospitalDetailDto = getHospitalDetailInfo(lat, lon, map.get("isAMB"), map.get("isCT"), map.get("isMRI"), snapshot, index);
 
         return hospitalDetailDto;
     }
 
 
+    // 병원의 최근 N시간 병상 이용 가능 시간 조회 (1시간 집계 기준)
+    public BedHistoryDto findBedHistory(Long id, int hours) {
+        HospitalSnapshot snapshot = hospitalSnapshotHolder.getSnapshot();
+        int index = getIndex(snapshot, id);
+
+        return bedService.findByHours(snapshot.getId(index), hours);
+    }
+
     // 구급차, CT, MRI 여부 판단
-    private HashMap<String, Boolean> isAMBAndCTAndMRI(Hospital hospital) {
+    private HashMap<String, Boolean> isAMBAndCTAndMRI(HospitalSnapshot snapshot, int index) {
         HashMap<String, Boolean> map = new HashMap();
-        map.put("isAMB", hospital.getAmbulance().equals("Y"));
-        map.put("isCT", hospital.getCt().equals("Y"));
-        map.put("isMRI", hospital.getMri().equals("Y"));
+        map.put("isAMB", snapshot.hasFlag(index, HospitalSnapshot.AMBULANCE));
+        map.put("isCT", snapshot.hasFlag(index, HospitalSnapshot.CT));
+        map.put("isMRI", snapshot.hasFlag(index, HospitalSnapshot.MRI));
 
         return map;
     }
 
     // 병원의 거리, 도착 예정 시간, 병상 수, 병상 데이터 조회
     private HospitalDetailDto getHospitalDetailInfo(Double lat, Double lon,
-                                  Boolean isAMB, Boolean isCT, Boolean isMRI, Hospital hospital) {
+                                  Boolean isAMB, Boolean isCT, Boolean isMRI, HospitalSnapshot snapshot, int index) {
         // 거리, 도착 예정 시간 조회
-        Map<String, String> map = kakaoMobilityService.requestKakaoMobilityApi(lat, lon, hospital.getLatitude(), hospital.getLongitude());
+        Map<String, String> map = kakaoMobilityService.requestKakaoMobilityApi(lat, lon, snapshot.getId(index),
+                snapshot.getLatitude(index), snapshot.getLongitude(index));
 
         // 병상 수, 병상 데이터 조회
-        BedDataDto bedDataDto = bedService.findByRecent(hospital.getName());
+        BedDataDto bedDataDto = bedService.findByRecent(snapshot.getId(index));
         int hvec = bedDataDto.getTwoAgoList().get(8);
         hvec = (hvec < 0) ? 0 : hvec;
 
         String simpleAddress = "";
-        simpleAddress = (hospital.getSimpleAddress() != null) ? hospital.getSimpleAddress() : simpleAddress;
+        simpleAddress = (snapshot.getSimpleAddress(index) != null) ? snapshot.getSimpleAddress(index) : simpleAddress;
+
+        return new HospitalDetailDto(snapshot.getName(index), snapshot.getAddress(index), simpleAddress,
+                snapshot.getRepresentativeContact(index), snapshot.getEmergencyContact(index), isAMB, isCT, isMRI,
+                hvec, Double.parseDouble(map.get("distance")), map.get("arriveTime"), snapshot.getLatitude(index),
+                snapshot.getLongitude(index), bedDataDto);
+    }
+
+    // 직선 거리 기준으로 선택된 병원 목록 페이지 (스냅샷 인덱스, 직선 거리 오름차순)
+    private static class NearbyPage {
+        private final int[] indexes;
+
+        private final double[] distances;
+
+        // 다음 페이지 커서 (마지막 페이지면 null)
+        private final String nextCursor;
+
+        private NearbyPage(int[] indexes, double[] distances, String nextCursor) {
+            this.indexes = indexes;
+            this.distances = distances;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    // 병원 목록 페이지 커서 (이전 페이지 마지막 병원의 직선 거리, id)
+    private static class ListCursor {
+        private static final ListCursor FIRST = new ListCursor(Double.NEGATIVE_INFINITY, Long.MIN_VALUE);
+
+        private final double distance;
+
+        private final long id;
+
+        private ListCursor(double distance, long id) {
+            this.distance = distance;
+            this.id = id;
+        }
+
+        private String encode() {
+            String value = distance + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
 
-        return new HospitalDetailDto(hospital.getName(), hospital.getAddress(), simpleAddress,
-                hospital.getRepresentativeContact(), hospital.getEmergencyContact(), isAMB, isCT, isMRI,
-                hvec, Double.parseDouble(map.get("distance")), map.get("arriveTime"), hospital.getLatitude(),
-                hospital.getLongitude(), bedDataDto);
+        private static ListCursor decode(String cursor) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = value.indexOf(':');
+                return new ListCursor(Double.parseDouble(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다.");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,85 +1,106 @@
 package com.finder.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.json.simple.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
+import com.finder.route.RouteCache;
+import com.finder.route.RouteClient;
+import com.finder.route.RouteDestination;
+import com.finder.route.RouteSummary;
+import com.finder.snapshot.HospitalSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.net.URLConnection;
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 public class KakaoMobilityService {
-    @Value("${kakao.key}")
-    private String REST_KEY;
+    private final RouteClient routeClient;
 
-    private Map<String, String> map = new HashMap<>();
+    private final RouteCache routeCache;
 
-    private JSONObject jsonObject = new JSONObject();
+    private final MeterRegistry meterRegistry;
 
-    public Map<String, String> requestKakaoMobilityApi(Double originLat, Double originLon, Double destinationLat, Double destinationLon) {
-        String urlStr =
-                "https://apis-navi.kakaomobility.com/v1/directions?origin=" + originLon + "," + originLat +
-                        "&destination=" + destinationLon + "," + destinationLat +
-                        "&waypoints=&priority=RECOMMEND&car_fuel=GASOLINE&car_hipass=false&alternatives=false&road_details=false";
+    private Counter cacheHitCounter;
 
-        // API 요청
-        requestAPI(urlStr);
+    private Counter cacheMissCounter;
 
-        // 응답 데이터 내 거리, 도착 예정 시간 정보 매핑
-        responseMapping();
+    // 경로 조회 실패 시 추정에 사용하는 평균 속도 (m/s, 약 30km/h)
+    private static final double ESTIMATED_SPEED = 8.3;
 
-        return map;
+    // 경로 캐시 적중/미스 지표 등록
+    @PostConstruct
+    public void initMetrics() {
+        cacheHitCounter = Counter.builder("route.cache.requests").tag("result", "hit").register(meterRegistry);
+        cacheMissCounter = Counter.builder("route.cache.requests").tag("result", "miss").register(meterRegistry);
     }
 
-    // API 요청
-    private void requestAPI(String urlStr) {
-        BufferedReader br = null;
-        ObjectMapper mapper = new ObjectMapper();
-        try {
-            URL url = new URL(urlStr);
-
-            // API 요청
-            URLConnection conn = url.openConnection();
-            // 인증키 등록
-            conn.setRequestProperty("Authorization", "KakaoAK " + REST_KEY);
-
-            // 응답 데이터를 JSONObject로 변환
-            br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            if(br != null) jsonObject = mapper.readValue(br, JSONObject.class);
-        } catch (Exception e) {
-            e.printStackTrace();
-        } finally {
-            try {
-                br.close();
-            } catch (Exception e) {
-                e.printStackTrace();
+    // 병원까지의 거리, 도착 예정 시간 조회 (경로 캐시 우선 사용)
+    public Map<String, String> requestKakaoMobilityApi(Double originLat, Double originLon, Long hospitalId,
+                                                       Double destinationLat, Double destinationLon) {
+        String key = RouteCache.key(originLat, originLon, hospitalId);
+        RouteSummary route = routeCache.get(key);
+
+        if (route != null) {
+            cacheHitCounter.increment();
+        } else {
+            cacheMissCounter.increment();
+            route = routeClient.route(originLat, originLon, destinationLat, destinationLon);
+            routeCache.put(key, route);
+        }
+
+        // 캐시된 소요 시간 기준 도착 예정 시간 재계산
+        return calculate(route.getDistance() + 0., route.getDuration());
+    }
+
+    // 여러 병원까지의 캐시된 거리, 도착 예정 시간 조회 (외부 호출 없음, 캐시 미스 병원은 null)
+    public List<Map<String, String>> findCachedRoutes(Double originLat, Double originLon, HospitalSnapshot snapshot, int[] indexes) {
+        List<Map<String, String>> routes = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            RouteSummary route = routeCache.get(RouteCache.key(originLat, originLon, snapshot.getId(index)));
+            if (route != null) {
+                cacheHitCounter.increment();
+                routes.add(calculate(route.getDistance() + 0., route.getDuration()));
+            } else {
+                cacheMissCounter.increment();
+                routes.add(null);
             }
         }
+
+        return routes;
     }
 
-    // 응답 데이터 내 거리, 도착 예정 시간 정보 매핑
-    private void responseMapping() {
-        ArrayList<LinkedHashMap> routes = (ArrayList) jsonObject.get("routes");
-        LinkedHashMap routesMap = routes.get(0);
-        LinkedHashMap summaryMap = (LinkedHashMap) routesMap.get("summary");
+    // 여러 병원까지의 경로를 한 번에 요청한 뒤 캐시에 저장 (캐시 미스 병원에만 사용, 경로가 없는 병원은 null)
+    public List<Map<String, String>> fetchRoutes(Double originLat, Double originLon, HospitalSnapshot snapshot, int[] indexes) {
+        List<RouteDestination> destinations = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            destinations.add(new RouteDestination(snapshot.getLatitude(index), snapshot.getLongitude(index)));
+        }
+
+        List<RouteSummary> fetched = routeClient.routes(originLat, originLon, destinations);
+        List<Map<String, String>> routes = new ArrayList<>(Collections.nCopies(indexes.length, null));
+        for (int i = 0; i < fetched.size(); i++) {
+            RouteSummary route = fetched.get(i);
+            if (route == null) continue;
 
-        // 거리, 소요 시간 조회
-        Double distance = (Integer) summaryMap.get("distance") + 0.;
-        Integer duration = (Integer) summaryMap.get("duration");
+            routeCache.put(RouteCache.key(originLat, originLon, snapshot.getId(indexes[i])), route);
+            routes.set(i, calculate(route.getDistance() + 0., route.getDuration()));
+        }
+
+        return routes;
+    }
 
-        // 거리, 도착 예정 시간 조회
-        calculate(distance, duration);
+    // 직선 거리 기준 거리, 도착 예정 시간 추정
+    public Map<String, String> estimate(double straightDistance) {
+        return calculate(straightDistance, (int) (straightDistance / ESTIMATED_SPEED));
     }
 
     // 거리, 도착 예정 시간 조회
-    private void calculate(Double distance, Integer duration) {
+    private Map<String, String> calculate(Double distance, Integer duration) {
         LocalDateTime now = LocalDateTime.now();
         int minute = duration / 60;
         int arriveHour = now.getHour();
@@ -103,7 +124,6 @@ public class KakaoMobilityService {
 
         distance = Math.round((distance / 1000) * 10.0) / 10.0;
 
-        map.put("distance", distance.toString());
-        map.put("arriveTime", arriveTime);
+        return Map.of("distance", distance.toString(), "arriveTime", arriveTime);
     }
 }
\ No newline at end of file
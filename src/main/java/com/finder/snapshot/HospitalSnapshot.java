@@ -0,0 +1,169 @@
+package com.finder.snapshot;
+
+import com.finder.domain.Hospital;
+import com.finder.geo.HospitalGridIndex;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HospitalSnapshot { // 병원 기본 정보 불변 스냅샷 (필드별 배열 저장)
+    // 구급차, CT, MRI 가용 여부 비트 플래그
+    public static final int AMBULANCE = 1;
+    public static final int CT = 1 << 1;
+    public static final int MRI = 1 << 2;
+
+    private final long version;
+
+    private final long[] ids;
+
+    private final String[] names;
+
+    private final String[] addresses;
+
+    private final String[] simpleAddresses;
+
+    private final String[] representativeContacts;
+
+    private final String[] emergencyContacts;
+
+    // 위치 정보가 없는 병원은 NaN
+    private final double[] latitudes;
+
+    private final double[] longitudes;
+
+    private final byte[] flags;
+
+    // 병원 id -> 배열 인덱스
+    private final Map<Long, Integer> indexById;
+
+    // 공공데이터 기관 id (hpid) -> 배열 인덱스 (공공데이터 API 응답 매핑용)
+    private final Map<String, Integer> indexByHpid;
+
+    private final HospitalGridIndex gridIndex;
+
+    private HospitalSnapshot(long version, List<Hospital> hospitals) {
+        int size = hospitals.size();
+        this.version = version;
+        this.ids = new long[size];
+        this.names = new String[size];
+        this.addresses = new String[size];
+        this.simpleAddresses = new String[size];
+        this.representativeContacts = new String[size];
+        this.emergencyContacts = new String[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        this.flags = new byte[size];
+        this.indexById = new HashMap<>(size * 2);
+        this.indexByHpid = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            Hospital hospital = hospitals.get(i);
+            ids[i] = hospital.getId();
+            names[i] = hospital.getName();
+            addresses[i] = hospital.getAddress();
+            simpleAddresses[i] = hospital.getSimpleAddress();
+            representativeContacts[i] = hospital.getRepresentativeContact();
+            emergencyContacts[i] = hospital.getEmergencyContact();
+            latitudes[i] = (hospital.getLatitude() != null) ? hospital.getLatitude() : Double.NaN;
+            longitudes[i] = (hospital.getLongitude() != null) ? hospital.getLongitude() : Double.NaN;
+
+            int flag = 0;
+            if ("Y".equals(hospital.getAmbulance())) flag |= AMBULANCE;
+            if ("Y".equals(hospital.getCt())) flag |= CT;
+            if ("Y".equals(hospital.getMri())) flag |= MRI;
+            flags[i] = (byte) flag;
+
+            indexById.put(ids[i], i);
+            if (hospital.getHpid() != null) indexByHpid.put(hospital.getHpid(), i);
+        }
+
+        this.gridIndex = HospitalGridIndex.build(latitudes, longitudes);
+    }
+
+    public static HospitalSnapshot of(long version, List<Hospital> hospitals) {
+        return new HospitalSnapshot(version, hospitals);
+    }
+
+    public static HospitalSnapshot empty() {
+        return new HospitalSnapshot(0, List.of());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // 병원 id 의 배열 인덱스 조회 (없으면 -1)
+    public int indexOf(Long id) {
+        Integer index = indexById.get(id);
+        return (index == null) ? -1 : index;
+    }
+
+    // 공공데이터 기관 id 의 배열 인덱스 조회 (없으면 -1)
+    public int indexOfHpid(String hpid) {
+        Integer index = indexByHpid.get(hpid);
+        return (index == null) ? -1 : index;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public String getAddress(int index) {
+        return addresses[index];
+    }
+
+    public String getSimpleAddress(int index) {
+        return simpleAddresses[index];
+    }
+
+    public String getRepresentativeContact(int index) {
+        return representativeContacts[index];
+    }
+
+    public String getEmergencyContact(int index) {
+        return emergencyContacts[index];
+    }
+
+    public double getLatitude(int index) {
+        return latitudes[index];
+    }
+
+    public double getLongitude(int index) {
+        return longitudes[index];
+    }
+
+    public boolean hasLocation(int index) {
+        return !Double.isNaN(latitudes[index]) && !Double.isNaN(longitudes[index]);
+    }
+
+    public boolean hasFlag(int index, int flag) {
+        return (flags[index] & flag) != 0;
+    }
+
+    // 병원 id 배열 (읽기 전용으로 사용, 복사하지 않음)
+    public long[] getIds() {
+        return ids;
+    }
+
+    // 위도 배열 (읽기 전용으로 사용, 복사하지 않음)
+    public double[] getLatitudes() {
+        return latitudes;
+    }
+
+    // 경도 배열 (읽기 전용으로 사용, 복사하지 않음)
+    public double[] getLongitudes() {
+        return longitudes;
+    }
+
+    public HospitalGridIndex getGridIndex() {
+        return gridIndex;
+    }
+}
@@ -0,0 +1,10 @@
+package com.finder.snapshot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class HospitalSnapshotEvent { // 병원 스냅샷 교체 이벤트
+    private final HospitalSnapshot snapshot;
+}
@@ -0,0 +1,43 @@
+package com.finder.snapshot;
+
+import com.finder.repository.HospitalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HospitalSnapshotHolder { // 병원 스냅샷 보관 (기본 정보 재적재 시 통째로 교체)
+    private final HospitalRepository hospitalRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile HospitalSnapshot snapshot = HospitalSnapshot.empty();
+
+    // 서버 시작 시 스냅샷 적재
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    // 병원 테이블 기준 스냅샷 재생성 후 교체 (비활성화된 병원 제외)
+    public synchronized void refresh() {
+        HospitalSnapshot newSnapshot = HospitalSnapshot.of(version.incrementAndGet(), hospitalRepository.findActive());
+        snapshot = newSnapshot;
+        log.info("병원 스냅샷 교체 완료 (버전: {}, 병원 수: {}, 격자 수: {})",
+                newSnapshot.getVersion(), newSnapshot.size(), newSnapshot.getGridIndex().cellCount());
+
+        // 스냅샷 기반 구조(클러스터 등) 재생성
+        applicationEventPublisher.publishEvent(new HospitalSnapshotEvent(newSnapshot));
+    }
+
+    public HospitalSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,15 @@
+package com.finder.tracker;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class BedChangeEvent { // 수집 시 병상 수가 바뀐 병원 목록 이벤트
+    // 수집 시각 (epoch 기준 분)
+    private final int epochMinute;
+
+    // 병원 id -> 바뀐 병상 수
+    private final Map<Long, Integer> counts;
+}
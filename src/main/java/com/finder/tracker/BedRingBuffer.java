@@ -0,0 +1,198 @@
+package com.finder.tracker;
+
+import com.finder.domain.Bed;
+import com.finder.repository.BedSampleStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BedRingBuffer { // 병원별 최근 병상 수 순환 버퍼 (분 단위 슬롯, 수집 경로에서 기록)
+    // 보관 분 수 (2시간 + 여유, 2의 거듭제곱)
+    public static final int CAPACITY = 128;
+
+    // 통계 구간 (분)
+    public static final int WINDOW = 120;
+
+    // 수집 누락 시 직전 병상 수로 채우는 최대 간격 (분, 초과 시 해당 구간은 데이터 없음으로 처리)
+    public static final int CARRY_MINUTES = 2;
+
+    private static final int MASK = CAPACITY - 1;
+
+    // 빈 슬롯 표시 값
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final BedSampleStore bedSampleStore;
+
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    // 마지막으로 기록된 분 (버퍼가 최신인지 판단)
+    private volatile int lastMinute = Integer.MIN_VALUE;
+
+    // 서버 시작 시 최근 데이터로 버퍼 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int now = Bed.toEpochMinute(LocalDateTime.now());
+        List<Bed> beds = bedSampleStore.findAllByRange(now - CAPACITY + 1, now);
+        beds.sort(Comparator.comparing(Bed::getEpochMinute));
+        for (Bed bed : beds) {
+            record(bed.getHospitalId(), bed.getEpochMinute(), bed.getCount());
+        }
+        advance(now);
+        log.info("병상 수 버퍼 초기화 완료 (병원 수: {}, 건수: {})", rings.size(), beds.size());
+    }
+
+    // 병원의 분 단위 병상 수 기록 (시간 순서대로 호출, 이미 기록된 시각은 무시)
+    public void record(long hospitalId, int epochMinute, int count) {
+        Ring ring = rings.computeIfAbsent(hospitalId, id -> new Ring());
+        synchronized (ring) {
+            ring.record(epochMinute, count);
+        }
+        if (epochMinute > lastMinute) lastMinute = epochMinute;
+    }
+
+    // 해당 분에 데이터가 없는 병원의 통계 구간도 이동 (구간을 벗어난 데이터 제외)
+    public void advance(int epochMinute) {
+        for (Ring ring : rings.values()) {
+            synchronized (ring) {
+                ring.advance(epochMinute);
+            }
+        }
+    }
+
+    // 기준 분까지 데이터가 기록되어 있는지 여부 (수집 중단 시 DB 조회로 대체)
+    public boolean covers(int epochMinute) {
+        return lastMinute >= epochMinute;
+    }
+
+    // 최근 2시간 통계 조회 (없으면 null)
+    public BedWindowStats findStats(long hospitalId) {
+        Ring ring = rings.get(hospitalId);
+        return (ring == null) ? null : ring.stats;
+    }
+
+    // 범위 내 가장 최근 병상 수 조회 (없으면 null)
+    public Integer findLatest(long hospitalId, int fromMinute, int toMinute) {
+        Ring ring = rings.get(hospitalId);
+        if (ring == null) return null;
+
+        for (int minute = toMinute; minute >= fromMinute; minute--) {
+            long slot = ring.slots.get(minute & MASK);
+            if (slot != EMPTY && minuteOf(slot) == minute) return countOf(slot);
+        }
+
+        return null;
+    }
+
+    // 범위 내 데이터를 시간 순으로 minutes, counts 에 기록하고 개수 반환 (범위는 CAPACITY 이하)
+    public int copyRange(long hospitalId, int fromMinute, int toMinute, int[] minutes, int[] counts) {
+        Ring ring = rings.get(hospitalId);
+        if (ring == null) return 0;
+
+        int size = 0;
+        for (int minute = fromMinute; minute <= toMinute; minute++) {
+            long slot = ring.slots.get(minute & MASK);
+            if (slot == EMPTY || minuteOf(slot) != minute) continue;
+
+            minutes[size] = minute;
+            counts[size] = countOf(slot);
+            size++;
+        }
+
+        return size;
+    }
+
+    private static long pack(int epochMinute, int count) {
+        return ((long) epochMinute << 32) | (count & 0xffffffffL);
+    }
+
+    private static int minuteOf(long slot) {
+        return (int) (slot >> 32);
+    }
+
+    private static int countOf(long slot) {
+        return (int) slot;
+    }
+
+    private static class Ring {
+        // 분과 병상 수를 하나의 long 으로 저장 (읽기 시 불일치 방지)
+        private final AtomicLongArray slots = new AtomicLongArray(CAPACITY);
+
+        // 통계 구간 (windowEnd - WINDOW, windowEnd]
+        private int windowEnd = Integer.MIN_VALUE;
+
+        private int availableMinutes;
+
+        private int sampleCount;
+
+        private int lastMinute = Integer.MIN_VALUE;
+
+        private int lastCount;
+
+        private volatile BedWindowStats stats;
+
+        private Ring() {
+            for (int i = 0; i < CAPACITY; i++) slots.set(i, EMPTY);
+        }
+
+        private void record(int epochMinute, int count) {
+            if (epochMinute <= lastMinute) return;
+
+            // 짧은 누락 구간은 직전 병상 수로 채움
+            if (lastMinute != Integer.MIN_VALUE && epochMinute - lastMinute - 1 <= CARRY_MINUTES) {
+                for (int minute = lastMinute + 1; minute < epochMinute; minute++) put(minute, lastCount);
+            }
+            put(epochMinute, count);
+            publish();
+        }
+
+        private void put(int epochMinute, int count) {
+            slide(epochMinute);
+            slots.set(epochMinute & MASK, pack(epochMinute, count));
+            sampleCount++;
+            if (count > 0) availableMinutes++;
+            lastMinute = epochMinute;
+            lastCount = count;
+        }
+
+        private void advance(int epochMinute) {
+            if (epochMinute <= windowEnd) return;
+            slide(epochMinute);
+            publish();
+        }
+
+        // 통계 구간 끝을 이동하고 구간을 벗어난 데이터 제외 (구간을 벗어나는 분의 슬롯은 CAPACITY > WINDOW 이므로 아직 남아 있음)
+        private void slide(int end) {
+            if (windowEnd != Integer.MIN_VALUE && end > windowEnd) {
+                // 구간 전체가 벗어난 경우 초기화
+                if (end - windowEnd >= WINDOW) {
+                    availableMinutes = 0;
+                    sampleCount = 0;
+                } else {
+                    for (int minute = windowEnd - WINDOW + 1; minute <= end - WINDOW; minute++) {
+                        long slot = slots.get(minute & MASK);
+                        if (slot == EMPTY || minuteOf(slot) != minute) continue;
+
+                        sampleCount--;
+                        if (countOf(slot) > 0) availableMinutes--;
+                    }
+                }
+            }
+            if (end > windowEnd) windowEnd = end;
+        }
+
+        private void publish() {
+            stats = new BedWindowStats(availableMinutes, sampleCount, lastCount);
+        }
+    }
+}
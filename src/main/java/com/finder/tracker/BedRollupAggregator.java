@@ -0,0 +1,220 @@
+package com.finder.tracker;
+
+import com.finder.domain.Bed;
+import com.finder.domain.BedRollup;
+import com.finder.repository.BedRollupRepository;
+import com.finder.repository.BedSampleStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BedRollupAggregator { // 병원별 15분, 1시간 구간 병상 수 집계 (수집 경로에서 갱신, 마감된 구간만 저장)
+    // 메모리에 보관하는 마감된 15분 구간 수 (24시간)
+    public static final int QUARTER_CAPACITY = 96;
+
+    // 집계가 없는 구간 표시 값 (findQuarters 의 availableMinutes)
+    public static final int MISSING = -1;
+
+    private final BedSampleStore bedSampleStore;
+
+    private final BedRollupRepository bedRollupRepository;
+
+    private final Map<Long, HospitalRollup> rollups = new ConcurrentHashMap<>();
+
+    // 저장 대기 중인 마감된 구간
+    private List<BedRollup> closed = new ArrayList<>();
+
+    // 서버 시작 시 최근 24시간 15분 집계와 현재 1시간 구간 복원
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int now = Bed.toEpochMinute(LocalDateTime.now());
+        int hourStart = BedRollup.bucketOf(now, BedRollup.HOUR);
+
+        List<BedRollup> quarters = bedRollupRepository.findAllByRange(BedRollup.QUARTER,
+                BedRollup.bucketOf(now, BedRollup.QUARTER) - QUARTER_CAPACITY * BedRollup.QUARTER, hourStart - 1);
+        for (BedRollup quarter : quarters) {
+            rollup(quarter.getHospitalId()).restore(quarter);
+        }
+
+        // 현재 1시간 구간은 원본 데이터로 다시 집계 (중간에 마감된 15분 구간은 다시 저장)
+        List<Bed> beds = bedSampleStore.findAllByRange(hourStart, now);
+        beds.sort(Comparator.comparing(Bed::getEpochMinute));
+        for (Bed bed : beds) {
+            add(bed.getHospitalId(), bed.getEpochMinute(), bed.getCount());
+        }
+        bedRollupRepository.insertAll(drainClosed());
+
+        log.info("병상 수 집계 초기화 완료 (병원 수: {}, 15분 구간 수: {}, 원본 건수: {})", rollups.size(), quarters.size(), beds.size());
+    }
+
+    // 분 단위 병상 수 반영 (시간 순서대로 호출, 이미 반영된 시각은 무시)
+    public void add(long hospitalId, int epochMinute, int count) {
+        HospitalRollup rollup = rollup(hospitalId);
+        List<BedRollup> closedNow = new ArrayList<>(2);
+        synchronized (rollup) {
+            rollup.add(epochMinute, count, closedNow);
+        }
+
+        if (!closedNow.isEmpty()) {
+            synchronized (this) {
+                closed.addAll(closedNow);
+            }
+        }
+    }
+
+    // 저장 대기 중인 마감된 구간 반환 후 비움
+    public synchronized List<BedRollup> drainClosed() {
+        List<BedRollup> drained = closed;
+        closed = new ArrayList<>();
+        return drained;
+    }
+
+    // fromMinute 부터 count 개의 15분 구간 집계 조회 (없는 구간은 병상 수 0, 이용 가능 분 수 MISSING), 데이터가 있는 구간 수 반환
+    public int findQuarters(long hospitalId, int fromMinute, int count, int[] boundaryCounts, int[] availableMinutes) {
+        Arrays.fill(boundaryCounts, 0, count, 0);
+        Arrays.fill(availableMinutes, 0, count, MISSING);
+
+        HospitalRollup rollup = rollups.get(hospitalId);
+        if (rollup == null) return 0;
+
+        synchronized (rollup) {
+            return rollup.findQuarters(fromMinute, count, boundaryCounts, availableMinutes);
+        }
+    }
+
+    private HospitalRollup rollup(long hospitalId) {
+        return rollups.computeIfAbsent(hospitalId, HospitalRollup::new);
+    }
+
+    private static class HospitalRollup {
+        private final long hospitalId;
+
+        private final Bucket quarter = new Bucket(BedRollup.QUARTER);
+
+        // 1시간 구간은 마감 시 저장만 함 (긴 기간 조회는 DB 집계 사용)
+        private final Bucket hour = new Bucket(BedRollup.HOUR);
+
+        // 마감된 15분 구간 (구간 번호 기준 순환 버퍼)
+        private final int[] quarterMinutes = new int[QUARTER_CAPACITY];
+
+        private final int[] quarterBoundaryCounts = new int[QUARTER_CAPACITY];
+
+        private final int[] quarterAvailableMinutes = new int[QUARTER_CAPACITY];
+
+        private int lastMinute = Integer.MIN_VALUE;
+
+        private int lastCount;
+
+        private HospitalRollup(long hospitalId) {
+            this.hospitalId = hospitalId;
+            Arrays.fill(quarterMinutes, Integer.MIN_VALUE);
+        }
+
+        private void add(int epochMinute, int count, List<BedRollup> closedNow) {
+            if (epochMinute <= lastMinute) return;
+
+            // 짧은 누락 구간은 직전 병상 수로 채움 (BedRingBuffer 와 같은 기준)
+            if (lastMinute != Integer.MIN_VALUE && epochMinute - lastMinute - 1 <= BedRingBuffer.CARRY_MINUTES) {
+                for (int minute = lastMinute + 1; minute < epochMinute; minute++) put(minute, lastCount, closedNow);
+            }
+            put(epochMinute, count, closedNow);
+        }
+
+        private void put(int epochMinute, int count, List<BedRollup> closedNow) {
+            BedRollup closedQuarter = quarter.add(hospitalId, epochMinute, count);
+            if (closedQuarter != null) {
+                store(closedQuarter.getBucketMinute(), closedQuarter.getBoundaryCount(), closedQuarter.getAvailableMinutes());
+                closedNow.add(closedQuarter);
+            }
+            BedRollup closedHour = hour.add(hospitalId, epochMinute, count);
+            if (closedHour != null) closedNow.add(closedHour);
+
+            lastMinute = epochMinute;
+            lastCount = count;
+        }
+
+        private void restore(BedRollup rollup) {
+            store(rollup.getBucketMinute(), rollup.getBoundaryCount(), rollup.getAvailableMinutes());
+        }
+
+        private void store(int bucketMinute, int boundaryCount, int availableMinutes) {
+            int slot = Math.floorMod(bucketMinute / BedRollup.QUARTER, QUARTER_CAPACITY);
+            quarterMinutes[slot] = bucketMinute;
+            quarterBoundaryCounts[slot] = boundaryCount;
+            quarterAvailableMinutes[slot] = availableMinutes;
+        }
+
+        private int findQuarters(int fromMinute, int count, int[] boundaryCounts, int[] availableMinutes) {
+            int found = 0;
+            for (int i = 0; i < count; i++) {
+                int bucketMinute = fromMinute + i * BedRollup.QUARTER;
+                // 아직 마감되지 않은 현재 구간
+                if (bucketMinute == quarter.start) {
+                    boundaryCounts[i] = quarter.boundaryCount;
+                    availableMinutes[i] = quarter.availableMinutes;
+                    found++;
+                    continue;
+                }
+
+                int slot = Math.floorMod(bucketMinute / BedRollup.QUARTER, QUARTER_CAPACITY);
+                if (quarterMinutes[slot] != bucketMinute) continue;
+
+                boundaryCounts[i] = quarterBoundaryCounts[slot];
+                availableMinutes[i] = quarterAvailableMinutes[slot];
+                found++;
+            }
+
+            return found;
+        }
+    }
+
+    private static class Bucket {
+        private final int size;
+
+        private int start = Integer.MIN_VALUE;
+
+        private int boundaryCount;
+
+        private int availableMinutes;
+
+        private int sampleCount;
+
+        private Bucket(int size) {
+            this.size = size;
+        }
+
+        // 새 구간이 시작되면 이전 구간을 마감하여 반환
+        private BedRollup add(long hospitalId, int epochMinute, int count) {
+            int bucketMinute = BedRollup.bucketOf(epochMinute, size);
+            BedRollup closed = null;
+
+            if (bucketMinute != start) {
+                if (start != Integer.MIN_VALUE) {
+                    closed = new BedRollup(hospitalId, size, start, boundaryCount, availableMinutes, sampleCount);
+                }
+                start = bucketMinute;
+                // 구간 시작 시각 데이터가 없으면 (누락 보정 후에도) 0
+                boundaryCount = (epochMinute == bucketMinute) ? count : 0;
+                availableMinutes = 0;
+                sampleCount = 0;
+            }
+
+            if (count > 0) availableMinutes++;
+            sampleCount++;
+
+            return closed;
+        }
+    }
+}
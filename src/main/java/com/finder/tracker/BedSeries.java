@@ -0,0 +1,42 @@
+package com.finder.tracker;
+
+import com.finder.domain.BedRollup;
+import java.util.Arrays;
+
+public final class BedSeries { // 분 단위 병상 수 시계열 집계 (수집 시와 같은 누락 보정 기준 적용)
+    private BedSeries() {
+    }
+
+    // 시간 순 병상 수 (minutes, counts) 로 fromQuarter 부터 quarters 개의 15분 구간 집계, 데이터가 있는 구간 수 반환
+    // BedRollupAggregator 와 같은 기준 (CARRY_MINUTES 이하의 누락은 직전 병상 수로 채움, 구간 시작 시각 데이터가 없으면 0)
+    // 첫 구간의 누락 보정을 위해 fromQuarter - CARRY_MINUTES 부터의 데이터를 넘겨야 함
+    public static int aggregateQuarters(int[] minutes, int[] counts, int size, int fromQuarter, int quarters,
+                                        int[] boundaryCounts, int[] availableMinutes) {
+        Arrays.fill(boundaryCounts, 0, quarters, 0);
+        Arrays.fill(availableMinutes, 0, quarters, 0);
+
+        int toMinute = fromQuarter + quarters * BedRollup.QUARTER;
+        int found = 0;
+        int lastQuarter = -1;
+        for (int i = 0; i < size; i++) {
+            // 직전 데이터와의 간격이 짧으면 사이 시각을 직전 병상 수로 채움 (중복 시각은 건너뜀)
+            boolean carry = i > 0 && minutes[i] - minutes[i - 1] - 1 <= BedRingBuffer.CARRY_MINUTES;
+            int start = carry ? minutes[i - 1] + 1 : minutes[i];
+
+            for (int minute = start; minute <= minutes[i]; minute++) {
+                if (minute < fromQuarter || minute >= toMinute) continue;
+
+                int count = (minute == minutes[i]) ? counts[i] : counts[i - 1];
+                int quarter = (minute - fromQuarter) / BedRollup.QUARTER;
+                if (quarter != lastQuarter) {
+                    found++;
+                    lastQuarter = quarter;
+                }
+                if (minute == fromQuarter + quarter * BedRollup.QUARTER) boundaryCounts[quarter] = count;
+                if (count > 0) availableMinutes[quarter]++;
+            }
+        }
+
+        return found;
+    }
+}
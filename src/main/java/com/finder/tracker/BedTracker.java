@@ -0,0 +1,161 @@
+package com.finder.tracker;
+
+import com.finder.domain.Bed;
+import com.finder.geo.HospitalClusterIndex;
+import com.finder.ingest.CircuitBreaker;
+import com.finder.ingest.IngestionStatus;
+import com.finder.repository.BedRollupRepository;
+import com.finder.repository.BedSampleStore;
+import com.finder.snapshot.HospitalSnapshot;
+import com.finder.snapshot.HospitalSnapshotHolder;
+import com.finder.xml.Item;
+import com.finder.xml.XmlService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import javax.xml.bind.JAXBException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bed.tracker.enabled", havingValue = "true", matchIfMissing = true)
+public class BedTracker { // 응급실 실시간 병상 수 수집 (1분 주기, 병원당 1건 저장)
+    // 원천 데이터 입력 일시 형식
+    private static final DateTimeFormatter SOURCE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final XmlService xmlService;
+
+    private final BedSampleStore bedSampleStore;
+
+    private final HospitalSnapshotHolder hospitalSnapshotHolder;
+
+    private final BedRingBuffer bedRingBuffer;
+
+    private final BedRollupAggregator bedRollupAggregator;
+
+    private final BedRollupRepository bedRollupRepository;
+
+    private final HospitalClusterIndex hospitalClusterIndex;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final IngestionStatus ingestionStatus;
+
+    private Timer ingestLagTimer;
+
+    private Counter rowCounter;
+
+    // 수집 지연, 저장 건수 지표 등록
+    @PostConstruct
+    public void initMetrics() {
+        ingestLagTimer = Timer.builder("bed.ingest.lag")
+                .description("원천 데이터 입력 시각부터 저장 완료까지의 지연")
+                .register(meterRegistry);
+        rowCounter = Counter.builder("bed.ingest.rows").register(meterRegistry);
+    }
+
+    // 실시간 가용병상정보 조회 후 병원별 병상 수 일괄 저장
+    @Scheduled(cron = "${bed.tracker.cron:0 * * * * *}")
+    public void track() {
+        LocalDateTime sampleTime = LocalDateTime.now().withSecond(0).withNano(0);
+
+        // 차단 중이면 조회하지 않음 (조회 API 는 마지막으로 수집된 병상 수를 계속 제공)
+        CircuitBreaker breaker = ingestionStatus.breaker(IngestionStatus.Upstream.REALTIME);
+        if (!breaker.allowRequest()) {
+            log.debug("실시간 가용병상정보 조회 생략 (차단 해제까지 {}ms)", breaker.remainingOpenMillis());
+            return;
+        }
+
+        List<Item> items;
+        try {
+            items = xmlService.fetchRealtimeItems();
+        } catch (IOException | JAXBException e) {
+            breaker.onFailure();
+            log.warn("실시간 가용병상정보 조회 실패: {}", e.toString());
+            return;
+        } catch (RuntimeException e) {
+            // 업스트림 오류가 아니어도 시험 요청 상태로 남지 않도록 정리
+            breaker.release();
+            throw e;
+        }
+        breaker.onSuccess();
+
+        // 공공데이터 기관 id (hpid) 로 병원 id 매핑 (같은 이름의 병원이 있어도 구분됨) (응답에 같은 병원이 중복으로 포함될 수 있으므로 병원당 첫 번째 항목만 사용)
+        HospitalSnapshot snapshot = hospitalSnapshotHolder.getSnapshot();
+        int epochMinute = Bed.toEpochMinute(sampleTime);
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        List<LocalDateTime> sourceTimes = new ArrayList<>();
+        int unknown = 0;
+        for (Item item : items) {
+            if (item.getHpid() == null || item.getHvec() == null) continue;
+
+            int index = snapshot.indexOfHpid(item.getHpid());
+            if (index < 0) {
+                unknown++;
+                continue;
+            }
+            long hospitalId = snapshot.getId(index);
+            if (counts.containsKey(hospitalId)) continue;
+
+            counts.put(hospitalId, item.getHvec().intValue());
+
+            LocalDateTime sourceTime = parseSourceTime(item.getHvidate());
+            if (sourceTime != null) sourceTimes.add(sourceTime);
+        }
+
+        bedSampleStore.save(epochMinute, counts);
+        // 최근 병상 수 버퍼 기록, 15분, 1시간 구간 집계 갱신 (마감된 구간만 일괄 저장)
+        Map<Long, Integer> changes = new HashMap<>();
+        counts.forEach((hospitalId, count) -> {
+            // 직전 병상 수 (누락 보정 범위 내)와 다르면 변경으로 봄
+            Integer previous = bedRingBuffer.findLatest(hospitalId, epochMinute - 1 - BedRingBuffer.CARRY_MINUTES, epochMinute - 1);
+            if (!count.equals(previous)) changes.put(hospitalId, count);
+
+            bedRingBuffer.record(hospitalId, epochMinute, count);
+            bedRollupAggregator.add(hospitalId, epochMinute, count);
+        });
+        // 이번 분에 데이터가 없는 병원의 최근 2시간 통계 구간 이동
+        bedRingBuffer.advance(epochMinute);
+        bedRollupRepository.insertAll(bedRollupAggregator.drainClosed());
+        // 클러스터 병상 수 합계 즉시 갱신 (별도 DB 조회 없음)
+        hospitalClusterIndex.updateHvec(counts);
+        // 병상 수 변경 구독자에게 전달
+        if (!changes.isEmpty()) applicationEventPublisher.publishEvent(new BedChangeEvent(epochMinute, changes));
+
+        LocalDateTime storedTime = LocalDateTime.now();
+        for (LocalDateTime sourceTime : sourceTimes) {
+            ingestLagTimer.record(Duration.between(sourceTime, storedTime));
+        }
+        rowCounter.increment(counts.size());
+        ingestionStatus.markFresh(IngestionStatus.Feed.BEDS);
+        log.debug("병상 수 저장 완료 (시각: {}, 병원 수: {}, 미등록 병원 수: {})", sampleTime, counts.size(), unknown);
+    }
+
+    private static LocalDateTime parseSourceTime(String hvidate) {
+        if (hvidate == null) return null;
+        try {
+            return LocalDateTime.parse(hvidate, SOURCE_TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.finder.tracker;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BedWindowStats { // 병원별 최근 2시간 병상 수 통계 (수집 시 갱신되는 불변 값)
+    // 병상 이용 가능(병상 수 1 이상) 분 수
+    private final int availableMinutes;
+
+    // 수집 건수 (빈 구간 보정 포함)
+    private final int sampleCount;
+
+    // 마지막 병상 수
+    private final int lastCount;
+}
@@ -8,6 +8,10 @@ import javax.xml.bind.annotation.XmlElement;
 @XmlAccessorType(XmlAccessType.FIELD)
 @Data
 public class Item {
+    // 기관 id
+    @XmlElement(name = "hpid")
+    private String hpid;
+
     // 기관명
     @XmlElement(name = "dutyName")
     private String dutyName;
@@ -16,6 +20,10 @@ public class Item {
     @XmlElement(name = "hvec")
     private Long hvec;
 
+    // 입력 일시 (yyyyMMddHHmmss)
+    @XmlElement(name = "hvidate")
+    private String hvidate;
+
     // 주소
     @XmlElement(name = "dutyAddr")
     private String dutyAddr;
@@ -0,0 +1,14 @@
+package com.finder.xml;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ItemPage { // 공공데이터 API 응답 한 페이지 읽기 결과
+    // 이 페이지에서 읽은 <item> 수
+    private final int rows;
+
+    // 전체 목록 건수 (<totalCount>, 응답에 없으면 -1)
+    private final int totalCount;
+}
@@ -0,0 +1,87 @@
+package com.finder.xml;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public final class ItemStreamReader { // 공공데이터 API 응답의 <item> 요소를 하나씩 읽어 전달 (응답 전체를 메모리에 올리지 않음)
+    private static final String ITEM = "item";
+
+    private static final String TOTAL_COUNT = "totalCount";
+
+    // JAXBContext, XMLInputFactory 는 생성 비용이 크고 스레드 안전하므로 한 번만 생성
+    private static final JAXBContext CONTEXT = createContext();
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private ItemStreamReader() {
+    }
+
+    // 스트림을 끝까지 읽으며 <item> 마다 sink 호출, 읽은 건수와 전체 건수 반환 (스트림은 호출한 쪽에서 닫음)
+    public static ItemPage read(InputStream in, Consumer<Item> sink) throws IOException, JAXBException {
+        // Unmarshaller 는 스레드 안전하지 않으므로 호출마다 생성
+        Unmarshaller unmarshaller = CONTEXT.createUnmarshaller();
+        XMLStreamReader reader = null;
+        int count = 0;
+        int totalCount = -1;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(in, "UTF-8");
+            while (reader.hasNext()) {
+                // unmarshal 이 </item> 다음으로 커서를 옮기므로 현재 위치부터 다시 확인
+                if (reader.getEventType() == XMLStreamConstants.START_ELEMENT && ITEM.equals(reader.getLocalName())) {
+                    sink.accept(unmarshaller.unmarshal(reader, Item.class).getValue());
+                    count++;
+                    continue;
+                }
+                if (reader.getEventType() == XMLStreamConstants.START_ELEMENT && TOTAL_COUNT.equals(reader.getLocalName())) {
+                    totalCount = parseCount(reader.getElementText());
+                }
+                reader.next();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("공공데이터 API 응답 파싱 실패", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+
+        return new ItemPage(count, totalCount);
+    }
+
+    private static int parseCount(String text) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static JAXBContext createContext() {
+        try {
+            return JAXBContext.newInstance(XmlModel.class);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("JAXBContext 생성 실패", e);
+        }
+    }
+
+    // 외부 엔티티, DTD 처리 비활성화 (XXE 방지)
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+        return factory;
+    }
+}
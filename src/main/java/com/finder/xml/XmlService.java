@@ -2,160 +2,119 @@ package com.finder.xml;
 
 import com.finder.domain.Hospital;
 import com.finder.repository.HospitalRepository;
+import com.finder.repository.HospitalSyncResult;
+import com.finder.snapshot.HospitalSnapshotHolder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.StringReader;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class XmlService {
     private HashMap<String, Item> map = new HashMap();
     private final HospitalRepository hospitalRepository;
+    private final HospitalSnapshotHolder hospitalSnapshotHolder;
+
+    @Qualifier("basicInfoExecutor")
+    private final Executor basicInfoExecutor;
 
     @Value("${api.key}")
     private String key;
 
-    // 응급실 실시간 가용병상정보 조회
-    public void callApi1() throws IOException, JAXBException {
-        // HTTP Request 생성
-        StringBuilder urlBuilder = new StringBuilder("http://apis.data.go.kr/B552657/ErmctInfoInqireService/getEmrrmRltmUsefulSckbdInfoInqire"); // URL
-        urlBuilder.append("?" + URLEncoder.encode("serviceKey","UTF-8") + "=" + key); //Service Key
-        urlBuilder.append("&" + URLEncoder.encode("STAGE1","UTF-8") + "=" + URLEncoder.encode("", "UTF-8")); // 주소(시도)
-        urlBuilder.append("&" + URLEncoder.encode("STAGE2","UTF-8") + "=" + URLEncoder.encode("", "UTF-8")); // 주소(시군구)
-        urlBuilder.append("&" + URLEncoder.encode("pageNo","UTF-8") + "=" + URLEncoder.encode("", "UTF-8")); // 페이지 번호
-        urlBuilder.append("&" + URLEncoder.encode("numOfRows","UTF-8") + "=" + URLEncoder.encode("1000", "UTF-8")); // 목록 건수
-        URL url = new URL(urlBuilder.toString());
+    // 응급의료정보 API 주소 (로컬 스텁 서버로 교체 가능)
+    @Value("${api.base-url:http://apis.data.go.kr/B552657/ErmctInfoInqireService}")
+    private String baseUrl;
 
-        // HTTP Request 전송
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
+    @Value("${api.connect-timeout:3000}")
+    private int connectTimeout;
 
-        // 현재 시간 기록
-        long startTime = System.currentTimeMillis();
+    @Value("${api.read-timeout:10000}")
+    private int readTimeout;
 
-        // HTTP Response 상태 코드 확인
-        System.out.println("Response code: " + conn.getResponseCode());
-        BufferedReader rd;
-        if(conn.getResponseCode() >= 200 && conn.getResponseCode() <= 300) {
-            rd = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-        } else {
-            rd = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
-        }
+    // 응급의료기관 기본정보 페이지당 건수
+    @Value("${api.basic.page-size:1000}")
+    private int basicPageSize;
 
-        // HTTP Response 저장
-        StringBuilder sb = new StringBuilder();
-        String line;
+    // 기본정보 페이지별 최대 요청 횟수, 재요청 간격 (ms, 횟수만큼 늘어남)
+    @Value("${api.basic.max-attempts:3}")
+    private int basicPageMaxAttempts;
 
-        try {
-            while ((line = rd.readLine()) != null) {
-                sb.append(line);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        rd.close();
-        conn.disconnect();
+    @Value("${api.basic.retry-delay:500}")
+    private long basicPageRetryDelay;
 
-        String xmlData = sb.toString();
-
-        // XML 데이터를 Java 객체로 변환 (언마샬링)
-        JAXBContext jaxbContext = JAXBContext.newInstance(XmlModel.class);
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-        StringReader reader = new StringReader(xmlData);
-        XmlModel xmlModel = (XmlModel) unmarshaller.unmarshal(reader);
+    // 응급실 실시간 가용병상정보 조회
+    public void callApi1() throws IOException, JAXBException {
+        // 현재 시간 기록
+        long startTime = System.currentTimeMillis();
 
-        List<Item> items = xmlModel.getBody().getItems().getItem();
+        // 매번 새로 구성 (응급실 목록에서 연속으로 빠진 병원은 동기화 시 비활성화)
+        List<Item> items = fetchRealtimeItems();
+        HashMap<String, Item> newMap = new HashMap<>();
         for (Item item : items) {
-            if(!map.containsKey(item.getDutyName()))
-                map.put(item.getDutyName(), item);
+            newMap.putIfAbsent(keyOf(item), item);
         }
-        System.out.println("map size: " + map.size()); // 411
+        map = newMap;
 
-        System.out.println("Data 수 : " + xmlModel.getBody().getItems().getItem().size());
         long endTime = System.currentTimeMillis();
-        System.out.println("callApi() 함수 소요 시간: " + (endTime - startTime) + "ms");
+        log.info("실시간 가용병상정보 조회 완료 (응답 건수: {}, 병원 수: {}, 소요 시간: {}ms)", items.size(), map.size(), endTime - startTime);
     }
 
-    // 응급의료기관 기본정보 조회
-    public void callApi2() throws IOException, JAXBException {
+    // 응급실 실시간 가용병상정보 API 요청 후 병원 목록 반환
+    public List<Item> fetchRealtimeItems() throws IOException, JAXBException {
         // HTTP Request 생성
-        StringBuilder urlBuilder = new StringBuilder("http://apis.data.go.kr/B552657/ErmctInfoInqireService/getEgytBassInfoInqire"); /*URL*/
-        urlBuilder.append("?" + URLEncoder.encode("serviceKey","UTF-8") + "=" + key); /*Service Key*/
-        urlBuilder.append("&" + URLEncoder.encode("HPID","UTF-8") + "=" + URLEncoder.encode("", "UTF-8"));
-        urlBuilder.append("&" + URLEncoder.encode("pageNo","UTF-8") + "=" + URLEncoder.encode("", "UTF-8"));
-        urlBuilder.append("&" + URLEncoder.encode("numOfRows","UTF-8") + "=" + URLEncoder.encode("39700", "UTF-8")); /*목록 건수*/
-        URL url = new URL(urlBuilder.toString());
+        StringBuilder urlBuilder = new StringBuilder(baseUrl + "/getEmrrmRltmUsefulSckbdInfoInqire"); // URL
+        urlBuilder.append("?" + URLEncoder.encode("serviceKey","UTF-8") + "=" + key); //Service Key
+        urlBuilder.append("&" + URLEncoder.encode("STAGE1","UTF-8") + "=" + URLEncoder.encode("", "UTF-8")); // 주소(시도)
+        urlBuilder.append("&" + URLEncoder.encode("STAGE2","UTF-8") + "=" + URLEncoder.encode("", "UTF-8")); // 주소(시군구)
+        urlBuilder.append("&" + URLEncoder.encode("pageNo","UTF-8") + "=" + URLEncoder.encode("", "UTF-8")); // 페이지 번호
+        urlBuilder.append("&" + URLEncoder.encode("numOfRows","UTF-8") + "=" + URLEncoder.encode("1000", "UTF-8")); // 목록 건수
 
-        // HTTP Request 전송
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
+        // 응답을 읽으면서 <item> 단위로 언마샬링
+        List<Item> items = new ArrayList<>();
+        request(new URL(urlBuilder.toString()), items::add);
+
+        return items;
+    }
 
+    // 응급의료기관 기본정보 조회
+    public void callApi2() throws IOException, JAXBException {
         // 현재 시간 기록
         long startTime = System.currentTimeMillis();
 
-        // HTTP Response 상태 코드 확인
-        System.out.println("Response code: " + conn.getResponseCode());
-        BufferedReader rd;
-        if(conn.getResponseCode() >= 200 && conn.getResponseCode() <= 300) {
-            rd = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-        } else {
-            rd = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
-        }
-
-        // HTTP Response 저장
-        StringBuilder sb = new StringBuilder();
-        String line;
-
-        try {
-            while ((line = rd.readLine()) != null) {
-                sb.append(line);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        rd.close();
-        conn.disconnect();
-
-        String xmlData = sb.toString();
-
-        // XML 데이터를 Java 객체로 변환 (언마샬링)
-        JAXBContext jaxbContext = JAXBContext.newInstance(XmlModel.class);
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-        StringReader reader = new StringReader(xmlData);
-        XmlModel hospitalResponse = (XmlModel) unmarshaller.unmarshal(reader);
-
-        System.out.println("Data 수 : " + hospitalResponse.getBody().getItems().getItem().size());
-        List<Item> items = hospitalResponse.getBody().getItems().getItem();
-
-        long count = 0;
-        for (Item item : items) {
-            if(map.containsKey(item.getDutyName())) {
-                Item getItem = map.get(item.getDutyName());
+        // 페이지가 도착하는 대로 응급실 병원 정보만 갱신 (기본정보 목록 전체를 보관하지 않음)
+        long[] count = new long[1];
+        int rows = fetchBasicItems(item -> {
+            Item getItem = map.get(keyOf(item));
+            if (getItem != null) {
                 getItem.update(item.getDutyAddr(), item.getDutyMapimg(), item.getDutyTel1(), item.getWgs84Lat(), item.getWgs84Lon());
-                map.put(item.getDutyName(), getItem);
-                count += 1;
+                count[0] += 1;
             }
-        }
+        });
 
         List<Hospital> hospitals = new ArrayList<>();
         for (String key : map.keySet()) {
             Item item = map.get(key);
             Hospital hospital = Hospital.builder()
+                    .hpid(item.getHpid())
                     .name(item.getDutyName())
                     .address(item.getDutyAddr())
                     .simpleAddress(item.getDutyMapimg())
@@ -169,10 +128,120 @@ public class XmlService {
             hospitals.add(hospital);
         }
 
-        hospitalRepository.saveAll(hospitals);
+        // 실시간 목록을 받지 못한 경우 전체 삭제되지 않도록 동기화 생략
+        if (hospitals.isEmpty()) {
+            log.warn("동기화할 병원 없음 (실시간 가용병상정보 목록이 비어 있음)");
+            return;
+        }
+
+        // 바뀐 병원만 반영 (기존 병원 id 유지), 바뀐 경우에만 병원 스냅샷 교체
+        HospitalSyncResult result = hospitalRepository.syncAll(hospitals);
+        if (result.hasChanges()) hospitalSnapshotHolder.refresh();
 
-        System.out.println("api1, api2 매핑 횟수: " + count); // 411
         long endTime = System.currentTimeMillis();
-        System.out.println("callApi() 함수 소요 시간: " + (endTime - startTime) + "ms");
+        log.info("기본정보 조회 완료 (응답 건수: {}, 매핑 횟수: {}, 소요 시간: {}ms)", rows, count[0], endTime - startTime);
+    }
+
+    // 응급의료기관 기본정보를 페이지 단위로 동시 조회하여 sink 에 전달, 읽은 건수 반환
+    // 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지를 basicInfoExecutor 크기만큼 병렬 요청 (sink 는 한 번에 한 스레드만 호출)
+    // 실패한 페이지만 다시 요청하므로 재요청된 페이지의 항목은 sink 에 두 번 전달될 수 있음
+    // 한 페이지라도 최종 실패하면 중단 표시 후 반환 (이미 진행 중인 요청은 다음 항목 전달 또는 재요청 시점에 중단, 이후 sink 호출 없음)
+    private int fetchBasicItems(Consumer<Item> sink) throws IOException, JAXBException {
+        AtomicBoolean aborted = new AtomicBoolean();
+        Consumer<Item> serialSink = item -> {
+            synchronized (sink) {
+                if (aborted.get()) throw new CancellationException("기본정보 조회 중단");
+                sink.accept(item);
+            }
+        };
+
+        ItemPage first = requestBasicPage(1, serialSink, aborted);
+        int pages = (first.getTotalCount() < 0) ? 1 : (first.getTotalCount() + basicPageSize - 1) / basicPageSize;
+
+        List<CompletableFuture<ItemPage>> futures = new ArrayList<>();
+        for (int pageNo = 2; pageNo <= pages; pageNo++) {
+            int page = pageNo;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return requestBasicPage(page, serialSink, aborted);
+                } catch (IOException | JAXBException e) {
+                    throw new CompletionException(e);
+                }
+            }, basicInfoExecutor));
+        }
+
+        int rows = first.getRows();
+        try {
+            for (CompletableFuture<ItemPage> future : futures) {
+                rows += future.join().getRows();
+            }
+        } catch (CompletionException e) {
+            // 진행 중인 sink 호출이 끝난 뒤 중단 표시 (반환 후에는 sink 가 호출되지 않음)
+            synchronized (sink) {
+                aborted.set(true);
+            }
+            // 아직 시작되지 않은 페이지 요청 취소
+            futures.forEach(future -> future.cancel(false));
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof JAXBException) throw (JAXBException) cause;
+            throw e;
+        }
+
+        return rows;
+    }
+
+    // 기본정보 한 페이지 요청 (실패 시 해당 페이지만 지연 후 재요청, 전체 조회가 중단되면 재요청하지 않음)
+    private ItemPage requestBasicPage(int pageNo, Consumer<Item> sink, AtomicBoolean aborted) throws IOException, JAXBException {
+        StringBuilder urlBuilder = new StringBuilder(baseUrl + "/getEgytBassInfoInqire"); /*URL*/
+        urlBuilder.append("?" + URLEncoder.encode("serviceKey","UTF-8") + "=" + key); /*Service Key*/
+        urlBuilder.append("&" + URLEncoder.encode("HPID","UTF-8") + "=" + URLEncoder.encode("", "UTF-8"));
+        urlBuilder.append("&" + URLEncoder.encode("pageNo","UTF-8") + "=" + pageNo);
+        urlBuilder.append("&" + URLEncoder.encode("numOfRows","UTF-8") + "=" + basicPageSize); /*목록 건수*/
+        URL url = new URL(urlBuilder.toString());
+
+        for (int attempt = 1; ; attempt++) {
+            if (aborted.get()) throw new CancellationException("기본정보 " + pageNo + " 페이지 조회 중단");
+            try {
+                return request(url, sink);
+            } catch (IOException | JAXBException e) {
+                if (attempt >= basicPageMaxAttempts || aborted.get()) throw e;
+                log.warn("기본정보 {} 페이지 조회 실패 ({}/{}): {}", pageNo, attempt, basicPageMaxAttempts, e.toString());
+            }
+
+            try {
+                Thread.sleep(basicPageRetryDelay * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("기본정보 " + pageNo + " 페이지 재요청 중단", e);
+            }
+        }
+    }
+
+    // 병원 구분 키 (기관 id, 없으면 기관명)
+    private static String keyOf(Item item) {
+        return (item.getHpid() != null) ? item.getHpid() : item.getDutyName();
+    }
+
+    // HTTP Request 전송 후 Response 본문의 <item> 을 읽는 대로 sink 에 전달
+    private ItemPage request(URL url, Consumer<Item> sink) throws IOException, JAXBException {
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        conn.setRequestMethod("GET");
+        conn.setConnectTimeout(connectTimeout);
+        conn.setReadTimeout(readTimeout);
+
+        // HTTP Response 상태 코드 확인
+        int responseCode = conn.getResponseCode();
+        if (responseCode < 200 || responseCode > 300) {
+            conn.disconnect();
+            throw new IOException("공공데이터 API 응답 오류: " + responseCode);
+        }
+
+        // HTTP Response 스트림에서 바로 파싱
+        try (InputStream in = new BufferedInputStream(conn.getInputStream())) {
+            return ItemStreamReader.read(in, sink);
+        } finally {
+            conn.disconnect();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+-- 병상 수 테이블 인터벌 파티션 전환 (Oracle 12.2 이상, bed.partition.mode=oracle 사용 시 1회 적용)
+-- 파티션 키는 epoch 기준 분 (UTC 기준 일/주 경계)
+
+-- 원본 분 단위 데이터: 1일(1440분) 파티션
+ALTER TABLE bed_sample MODIFY
+    PARTITION BY RANGE (epoch_minute) INTERVAL (1440)
+    (PARTITION bed_sample_p0 VALUES LESS THAN (0))
+    ONLINE UPDATE INDEXES;
+
+-- 15분, 1시간 집계: 1주(10080분) 파티션
+ALTER TABLE bed_rollup MODIFY
+    PARTITION BY RANGE (bucket_minute) INTERVAL (10080)
+    (PARTITION bed_rollup_p0 VALUES LESS THAN (0))
+    ONLINE UPDATE INDEXES;
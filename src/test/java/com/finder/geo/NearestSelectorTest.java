@@ -0,0 +1,101 @@
+package com.finder.geo;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearestSelectorTest {
+    @Test
+    void selectsNearestInAscendingOrder() {
+        double[] distances = { 5, 1, 4, 2, 3 };
+        int[] indexes = { 0, 1, 2, 3, 4 };
+        long[] ids = { 10, 11, 12, 13, 14 };
+        int[] out = new int[3];
+
+        int remaining = NearestSelector.select(distances, indexes, ids, distances.length, 3,
+                Double.NEGATIVE_INFINITY, Long.MIN_VALUE, out);
+
+        assertThat(remaining).isEqualTo(5);
+        assertThat(out).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void breaksDistanceTiesById() {
+        double[] distances = { 1, 1, 1 };
+        // 위치 -> 스냅샷 인덱스 (id 는 스냅샷 인덱스 기준)
+        int[] indexes = { 2, 0, 1 };
+        long[] ids = { 20, 30, 10 };
+        int[] out = new int[3];
+
+        NearestSelector.select(distances, indexes, ids, distances.length, 3, Double.NEGATIVE_INFINITY, Long.MIN_VALUE, out);
+
+        // id 10 (위치 0), 20 (위치 1), 30 (위치 2)
+        assertThat(out).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void skipsCandidatesUpToCursor() {
+        double[] distances = { 1, 1, 2 };
+        int[] indexes = { 0, 1, 2 };
+        long[] ids = { 10, 20, 30 };
+        int[] out = new int[3];
+
+        int remaining = NearestSelector.select(distances, indexes, ids, distances.length, 3, 1, 10, out);
+
+        assertThat(remaining).isEqualTo(2);
+        assertThat(out[0]).isEqualTo(1);
+        assertThat(out[1]).isEqualTo(2);
+    }
+
+    @Test
+    void countsRemainingWithZeroLimit() {
+        double[] distances = { 3, 1, 2 };
+        int[] indexes = { 0, 1, 2 };
+        long[] ids = { 1, 2, 3 };
+
+        int remaining = NearestSelector.select(distances, indexes, ids, distances.length, 0,
+                Double.NEGATIVE_INFINITY, Long.MIN_VALUE, new int[0]);
+
+        assertThat(remaining).isEqualTo(3);
+    }
+
+    @Test
+    void cursorPagesVisitEveryCandidateOnceInOrder() {
+        Random random = new Random(42);
+        int count = 200;
+        int pageSize = 7;
+        double[] distances = new double[count];
+        int[] indexes = new int[count];
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            // 같은 거리가 많도록 정수 거리 사용
+            distances[i] = random.nextInt(20);
+            indexes[i] = count - 1 - i;
+            ids[i] = 1000 + random.nextInt(1_000_000) * 1000L + i;
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) expected.add(i);
+        expected.sort(Comparator.<Integer>comparingDouble(i -> distances[i]).thenComparingLong(i -> ids[indexes[i]]));
+
+        List<Integer> visited = new ArrayList<>();
+        double afterDistance = Double.NEGATIVE_INFINITY;
+        long afterId = Long.MIN_VALUE;
+        while (true) {
+            int[] out = new int[pageSize];
+            int remaining = NearestSelector.select(distances, indexes, ids, count, pageSize, afterDistance, afterId, out);
+            int size = Math.min(pageSize, remaining);
+            for (int i = 0; i < size; i++) visited.add(out[i]);
+            if (remaining <= pageSize) break;
+
+            afterDistance = distances[out[size - 1]];
+            afterId = ids[indexes[out[size - 1]]];
+        }
+
+        assertThat(visited).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,38 @@
+package com.finder.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackoffTest {
+    private static final long BASE = 100;
+
+    private static final long MAX = 10_000;
+
+    // 무작위 지연이므로 여러 번 확인
+    private static final int REPEAT = 1_000;
+
+    @Test
+    void delayStaysBetweenHalfAndFullExponential() {
+        for (int attempt = 0; attempt <= 6; attempt++) {
+            long exponential = BASE << attempt;
+            for (int i = 0; i < REPEAT; i++) {
+                assertThat(Backoff.delay(attempt, BASE, MAX)).isBetween(exponential / 2, exponential);
+            }
+        }
+    }
+
+    @Test
+    void delayIsCappedAtMax() {
+        for (int i = 0; i < REPEAT; i++) {
+            assertThat(Backoff.delay(20, BASE, MAX)).isBetween(MAX / 2, MAX);
+        }
+    }
+
+    @Test
+    void delayFallsBackToMaxOnOverflow() {
+        for (int i = 0; i < REPEAT; i++) {
+            assertThat(Backoff.delay(Integer.MAX_VALUE, 1L << 40, MAX)).isBetween(MAX / 2, MAX);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.finder.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    // 차단 시간 0 (바로 시험 요청 가능)
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 2, 0, 0);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 60_000, 60_000);
+
+        assertThat(breaker.allowRequest()).isTrue();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.remainingOpenMillis()).isBetween(1L, 60_000L);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void allowsSingleProbeAfterOpenTimeAndClosesOnSuccess() {
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        // 시험 요청 진행 중에는 다른 요청 차단
+        assertThat(breaker.allowRequest()).isFalse();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    void reopensWhenProbeFails() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.allowRequest();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void releaseClosesProbeAndReopensOnNextUpstreamFailure() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.allowRequest();
+
+        // 시험 요청이 업스트림과 무관한 오류로 끝남
+        breaker.release();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void releaseOutsideProbeKeepsState() {
+        breaker.onFailure();
+
+        breaker.release();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+}
@@ -0,0 +1,155 @@
+package com.finder.repository;
+
+import com.finder.domain.Hospital;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 누락 기준 2회, 최소 비율 0.5 (활성 병원 수의 절반 미만이면 일부만 받은 응답)
+@DataJpaTest(properties = { "hospital.sync.miss-threshold=2", "hospital.sync.min-ratio=0.5" })
+class HospitalRepositoryImplTest {
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertsNewHospitalsWithContentHash() {
+        Hospital a = hospital("A1", "가병원", "서울");
+
+        HospitalSyncResult result = hospitalRepository.syncAll(Arrays.asList(a, hospital("B1", "나병원", "부산")));
+
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(0);
+        assertThat(countRows()).isEqualTo(2);
+        assertThat(contentHashOf("A1")).isEqualTo(HospitalRepositoryImpl.contentHash(a));
+        assertThat(missCountOf("A1")).isEqualTo(0);
+        assertThat(isActive("A1")).isTrue();
+    }
+
+    @Test
+    void skipsUnchangedHospitals() {
+        List<Hospital> hospitals = Arrays.asList(hospital("A1", "가병원", "서울"), hospital("B1", "나병원", "부산"));
+        hospitalRepository.syncAll(hospitals);
+
+        HospitalSyncResult result = hospitalRepository.syncAll(hospitals);
+
+        assertThat(result.getUnchanged()).isEqualTo(2);
+        assertThat(result.hasChanges()).isFalse();
+    }
+
+    @Test
+    void updatesChangedHospitalInPlace() {
+        hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울"), hospital("B1", "나병원", "부산")));
+        Long id = idOf("A1");
+        Hospital moved = hospital("A1", "가병원", "대전");
+
+        HospitalSyncResult result = hospitalRepository.syncAll(Arrays.asList(moved, hospital("B1", "나병원", "부산")));
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(idOf("A1")).isEqualTo(id);
+        assertThat(contentHashOf("A1")).isEqualTo(HospitalRepositoryImpl.contentHash(moved));
+        assertThat(countRows()).isEqualTo(2);
+    }
+
+    @Test
+    void matchesLegacyRowWithoutHpidByName() {
+        // hpid, 해시가 없는 기존 데이터
+        jdbcTemplate.update("insert into hospital (name, address) values (?, ?)", "가병원", "서울");
+        Long id = jdbcTemplate.queryForObject("select id from hospital where name = ?", Long.class, "가병원");
+
+        HospitalSyncResult result = hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울")));
+
+        assertThat(result.getInserted()).isEqualTo(0);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(idOf("A1")).isEqualTo(id);
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    @Test
+    void countsMissesBelowThresholdWithoutDeactivating() {
+        hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울"), hospital("B1", "나병원", "부산"),
+                hospital("C1", "다병원", "대구")));
+
+        HospitalSyncResult result = hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울"),
+                hospital("B1", "나병원", "부산")));
+
+        assertThat(result.getDeactivated()).isEqualTo(0);
+        assertThat(missCountOf("C1")).isEqualTo(1);
+        assertThat(isActive("C1")).isTrue();
+    }
+
+    @Test
+    void deactivatesAfterConsecutiveMissesAndRestoresOnReturn() {
+        Hospital c = hospital("C1", "다병원", "대구");
+        hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울"), hospital("B1", "나병원", "부산"), c));
+        Long id = idOf("C1");
+        List<Hospital> withoutC = Arrays.asList(hospital("A1", "가병원", "서울"), hospital("B1", "나병원", "부산"));
+        hospitalRepository.syncAll(withoutC);
+
+        HospitalSyncResult result = hospitalRepository.syncAll(withoutC);
+
+        assertThat(result.getDeactivated()).isEqualTo(1);
+        assertThat(missCountOf("C1")).isEqualTo(2);
+        assertThat(isActive("C1")).isFalse();
+
+        // 다시 나타나면 같은 id 로 복구
+        result = hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울"), hospital("B1", "나병원", "부산"), c));
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(idOf("C1")).isEqualTo(id);
+        assertThat(missCountOf("C1")).isEqualTo(0);
+        assertThat(isActive("C1")).isTrue();
+    }
+
+    @Test
+    void skipsMissesForPartialListUnderMinRatio() {
+        hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울"), hospital("B1", "나병원", "부산"),
+                hospital("C1", "다병원", "대구"), hospital("D1", "라병원", "광주")));
+
+        // 활성 병원 4곳 중 1곳만 받음 (1 < 4 * 0.5), 기준 횟수만큼 반복돼도 누락으로 세지 않음
+        hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울")));
+        HospitalSyncResult result = hospitalRepository.syncAll(Arrays.asList(hospital("A1", "가병원", "서울")));
+
+        assertThat(result.getDeactivated()).isEqualTo(0);
+        assertThat(missCountOf("B1")).isEqualTo(0);
+        assertThat(isActive("B1")).isTrue();
+    }
+
+    private static Hospital hospital(String hpid, String name, String address) {
+        return Hospital.builder()
+                .hpid(hpid)
+                .name(name)
+                .address(address)
+                .latitude(37.5)
+                .longitude(127.0)
+                .build();
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("select count(*) from hospital", Integer.class);
+    }
+
+    private Long idOf(String hpid) {
+        return jdbcTemplate.queryForObject("select id from hospital where hpid = ?", Long.class, hpid);
+    }
+
+    private Long contentHashOf(String hpid) {
+        return jdbcTemplate.queryForObject("select content_hash from hospital where hpid = ?", Long.class, hpid);
+    }
+
+    private Integer missCountOf(String hpid) {
+        return jdbcTemplate.queryForObject("select miss_count from hospital where hpid = ?", Integer.class, hpid);
+    }
+
+    private boolean isActive(String hpid) {
+        return jdbcTemplate.queryForObject("select active from hospital where hpid = ?", Boolean.class, hpid);
+    }
+}
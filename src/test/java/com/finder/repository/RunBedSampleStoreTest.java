@@ -0,0 +1,160 @@
+package com.finder.repository;
+
+import com.finder.domain.Bed;
+import com.finder.domain.BedRun;
+import com.finder.tracker.BedRingBuffer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class RunBedSampleStoreTest {
+    private static final long HOSPITAL = 1L;
+
+    private static final long OTHER = 2L;
+
+    // 임의의 기준 시각 (epoch 기준 분)
+    private static final int BASE = 28_000_000;
+
+    @Autowired
+    private BedRunRepository bedRunRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void writesRunOnlyWhenCountChanges() {
+        RunBedSampleStore store = newStore();
+
+        store.save(BASE, Map.of(HOSPITAL, 3));
+        store.save(BASE + 1, Map.of(HOSPITAL, 3));
+        store.save(BASE + 2, Map.of(HOSPITAL, 5));
+
+        // 바뀐 시각 직전까지로 종료 + 새 구간 시작
+        assertThat(countRuns()).isEqualTo(2);
+        assertThat(toMinuteOf(BASE)).isEqualTo(BASE + 2);
+        assertThat(toMinuteOf(BASE + 2)).isEqualTo(BedRun.OPEN);
+        List<Bed> beds = find(store, HOSPITAL, BASE, BASE + 2);
+        assertThat(minutes(beds)).containsExactly(BASE, BASE + 1, BASE + 2);
+        assertThat(counts(beds)).containsExactly(3, 3, 5);
+    }
+
+    @Test
+    void carriesRunAcrossShortGaps() {
+        RunBedSampleStore store = newStore();
+
+        store.save(BASE, Map.of(HOSPITAL, 3));
+        store.save(BASE + 1, Map.of());
+        store.save(BASE + 1 + BedRingBuffer.CARRY_MINUTES, Map.of(HOSPITAL, 3));
+
+        assertThat(countRuns()).isEqualTo(1);
+        assertThat(counts(find(store, HOSPITAL, BASE, BASE + 1 + BedRingBuffer.CARRY_MINUTES))).containsExactly(3, 3, 3, 3);
+    }
+
+    @Test
+    void closesRunAfterLastCollectedMinuteOnLongGap() {
+        RunBedSampleStore store = newStore();
+        int next = BASE + 2 + BedRingBuffer.CARRY_MINUTES;
+
+        store.save(BASE, Map.of(HOSPITAL, 3));
+        store.save(next, Map.of(HOSPITAL, 3));
+
+        assertThat(toMinuteOf(BASE)).isEqualTo(BASE + 1);
+        assertThat(toMinuteOf(next)).isEqualTo(BedRun.OPEN);
+        assertThat(minutes(find(store, HOSPITAL, BASE, next))).containsExactly(BASE, next);
+    }
+
+    @Test
+    void expandsOpenRunOnlyToLastCollectedMinute() {
+        RunBedSampleStore store = newStore();
+
+        store.save(BASE, Map.of(HOSPITAL, 3, OTHER, 7));
+        store.save(BASE + 1, Map.of(HOSPITAL, 3));
+
+        // 조회 범위가 넓어도 워터마크 이후, 누락 중인 시각은 펼치지 않음
+        assertThat(minutes(find(store, HOSPITAL, BASE, BASE + 10))).containsExactly(BASE, BASE + 1);
+        assertThat(minutes(find(store, OTHER, BASE, BASE + 10))).containsExactly(BASE);
+        assertThat(find(store, HOSPITAL, BASE + 2, BASE + 10)).isEmpty();
+    }
+
+    @Test
+    void ignoresMinutesNotAfterWatermark() {
+        RunBedSampleStore store = newStore();
+
+        store.save(BASE + 1, Map.of(HOSPITAL, 3));
+        store.save(BASE, Map.of(HOSPITAL, 9));
+        store.save(BASE + 1, Map.of(HOSPITAL, 9));
+
+        List<Bed> beds = find(store, HOSPITAL, BASE, BASE + 1);
+        assertThat(minutes(beds)).containsExactly(BASE + 1);
+        assertThat(counts(beds)).containsExactly(3);
+    }
+
+    @Test
+    void expandsNothingOpenWithoutWatermark() {
+        jdbcTemplate.update("insert into bed_run (hospital_id, from_minute, to_minute, count) values (?, ?, ?, ?)",
+                HOSPITAL, BASE, BedRun.OPEN, 3);
+
+        assertThat(find(newStore(), HOSPITAL, BASE, BASE + 10)).isEmpty();
+    }
+
+    @Test
+    void restoresOpenRunsAfterRestart() {
+        RunBedSampleStore before = newStore();
+        before.save(BASE, Map.of(HOSPITAL, 3));
+        before.save(BASE + 1, Map.of(HOSPITAL, 3));
+
+        // 재시작한 서버는 저장 전에는 DB 워터마크까지 펼침
+        RunBedSampleStore after = newStore();
+        assertThat(minutes(find(after, HOSPITAL, BASE, BASE + 10))).containsExactly(BASE, BASE + 1);
+
+        // 복원된 열린 구간을 이어 감
+        after.save(BASE + 2, Map.of(HOSPITAL, 3));
+        after.save(BASE + 3, Map.of(HOSPITAL, 4));
+
+        assertThat(countRuns()).isEqualTo(2);
+        assertThat(toMinuteOf(BASE)).isEqualTo(BASE + 3);
+        assertThat(counts(find(after, HOSPITAL, BASE, BASE + 10))).containsExactly(3, 3, 3, 4);
+    }
+
+    private RunBedSampleStore newStore() {
+        return new RunBedSampleStore(bedRunRepository, jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    // JDBC 로 바뀐 구간을 다시 읽도록 영속성 컨텍스트 비움 (실제 서버는 조회마다 새 컨텍스트)
+    private List<Bed> find(RunBedSampleStore store, long hospitalId, int fromMinute, int toMinute) {
+        entityManager.clear();
+        return store.findByRange(hospitalId, fromMinute, toMinute);
+    }
+
+    private int countRuns() {
+        return jdbcTemplate.queryForObject("select count(*) from bed_run", Integer.class);
+    }
+
+    private int toMinuteOf(int fromMinute) {
+        return jdbcTemplate.queryForObject("select to_minute from bed_run where hospital_id = ? and from_minute = ?",
+                Integer.class, HOSPITAL, fromMinute);
+    }
+
+    private static int[] minutes(List<Bed> beds) {
+        return beds.stream().mapToInt(Bed::getEpochMinute).toArray();
+    }
+
+    private static int[] counts(List<Bed> beds) {
+        return beds.stream().mapToInt(Bed::getCount).toArray();
+    }
+}
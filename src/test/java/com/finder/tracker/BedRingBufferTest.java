@@ -0,0 +1,178 @@
+package com.finder.tracker;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BedRingBufferTest {
+    private static final long HOSPITAL = 1L;
+
+    // 임의의 기준 시각 (epoch 기준 분)
+    private static final int BASE = 28_000_000;
+
+    private final BedRingBuffer buffer = new BedRingBuffer(null);
+
+    @Test
+    void findsLatestCountWithinRange() {
+        buffer.record(HOSPITAL, BASE, 3);
+        buffer.record(HOSPITAL, BASE + 1, 5);
+
+        assertThat(buffer.findLatest(HOSPITAL, BASE, BASE + 1)).isEqualTo(5);
+        assertThat(buffer.findLatest(HOSPITAL, BASE, BASE)).isEqualTo(3);
+        assertThat(buffer.findLatest(HOSPITAL, BASE + 2, BASE + 5)).isNull();
+        assertThat(buffer.findLatest(2L, BASE, BASE + 1)).isNull();
+    }
+
+    @Test
+    void ignoresMinutesAlreadyRecorded() {
+        buffer.record(HOSPITAL, BASE + 5, 1);
+        buffer.record(HOSPITAL, BASE + 5, 9);
+        buffer.record(HOSPITAL, BASE + 3, 9);
+
+        assertThat(buffer.findLatest(HOSPITAL, BASE + 5, BASE + 5)).isEqualTo(1);
+        assertThat(buffer.findLatest(HOSPITAL, BASE + 3, BASE + 3)).isNull();
+    }
+
+    @Test
+    void carriesPreviousCountAcrossShortGaps() {
+        buffer.record(HOSPITAL, BASE, 4);
+        buffer.record(HOSPITAL, BASE + 1 + BedRingBuffer.CARRY_MINUTES, 7);
+
+        int[] minutes = new int[8];
+        int[] counts = new int[8];
+        int size = buffer.copyRange(HOSPITAL, BASE, BASE + 7, minutes, counts);
+
+        assertThat(size).isEqualTo(BedRingBuffer.CARRY_MINUTES + 2);
+        for (int i = 0; i < size; i++) {
+            assertThat(minutes[i]).isEqualTo(BASE + i);
+            assertThat(counts[i]).isEqualTo((i == size - 1) ? 7 : 4);
+        }
+    }
+
+    @Test
+    void leavesLongGapsEmpty() {
+        buffer.record(HOSPITAL, BASE, 4);
+        buffer.record(HOSPITAL, BASE + 2 + BedRingBuffer.CARRY_MINUTES, 7);
+
+        int[] minutes = new int[8];
+        int[] counts = new int[8];
+        int size = buffer.copyRange(HOSPITAL, BASE, BASE + 7, minutes, counts);
+
+        assertThat(size).isEqualTo(2);
+        assertThat(minutes[0]).isEqualTo(BASE);
+        assertThat(minutes[1]).isEqualTo(BASE + 2 + BedRingBuffer.CARRY_MINUTES);
+        assertThat(buffer.findLatest(HOSPITAL, BASE + 1, BASE + 1 + BedRingBuffer.CARRY_MINUTES)).isNull();
+    }
+
+    @Test
+    void reusesSlotsAfterCapacity() {
+        for (int i = 0; i <= BedRingBuffer.CAPACITY; i++) {
+            buffer.record(HOSPITAL, BASE + i, i);
+        }
+
+        // BASE 의 슬롯은 BASE + CAPACITY 가 덮어씀
+        assertThat(buffer.findLatest(HOSPITAL, BASE, BASE)).isNull();
+        assertThat(buffer.findLatest(HOSPITAL, BASE + 1, BASE + 1)).isEqualTo(1);
+        assertThat(buffer.findLatest(HOSPITAL, BASE, BASE + BedRingBuffer.CAPACITY)).isEqualTo(BedRingBuffer.CAPACITY);
+
+        int[] minutes = new int[BedRingBuffer.CAPACITY + 1];
+        int[] counts = new int[BedRingBuffer.CAPACITY + 1];
+        int size = buffer.copyRange(HOSPITAL, BASE, BASE + BedRingBuffer.CAPACITY, minutes, counts);
+
+        assertThat(size).isEqualTo(BedRingBuffer.CAPACITY);
+        assertThat(minutes[0]).isEqualTo(BASE + 1);
+        assertThat(minutes[size - 1]).isEqualTo(BASE + BedRingBuffer.CAPACITY);
+    }
+
+    @Test
+    void coversUpToLastRecordedMinute() {
+        assertThat(buffer.covers(BASE)).isFalse();
+
+        buffer.record(HOSPITAL, BASE + 2, 1);
+
+        assertThat(buffer.covers(BASE + 2)).isTrue();
+        assertThat(buffer.covers(BASE + 3)).isFalse();
+    }
+
+    @Test
+    void countsSamplesAndAvailableMinutesInWindow() {
+        for (int i = 0; i < 10; i++) {
+            buffer.record(HOSPITAL, BASE + i, i % 2);
+        }
+
+        BedWindowStats stats = buffer.findStats(HOSPITAL);
+        assertThat(stats.getSampleCount()).isEqualTo(10);
+        assertThat(stats.getAvailableMinutes()).isEqualTo(5);
+        assertThat(stats.getLastCount()).isEqualTo(1);
+        assertThat(buffer.findStats(2L)).isNull();
+    }
+
+    @Test
+    void expiresMinutesOlderThanWindow() {
+        for (int i = 0; i <= BedRingBuffer.WINDOW; i++) {
+            buffer.record(HOSPITAL, BASE + i, (i == 0) ? 1 : 0);
+        }
+
+        BedWindowStats stats = buffer.findStats(HOSPITAL);
+        assertThat(stats.getSampleCount()).isEqualTo(BedRingBuffer.WINDOW);
+        assertThat(stats.getAvailableMinutes()).isEqualTo(0);
+    }
+
+    @Test
+    void advanceExpiresHospitalsWithoutNewSamples() {
+        buffer.record(HOSPITAL, BASE, 3);
+
+        buffer.advance(BASE + BedRingBuffer.WINDOW - 1);
+        assertThat(buffer.findStats(HOSPITAL).getAvailableMinutes()).isEqualTo(1);
+
+        buffer.advance(BASE + BedRingBuffer.WINDOW);
+        BedWindowStats stats = buffer.findStats(HOSPITAL);
+        assertThat(stats.getSampleCount()).isEqualTo(0);
+        assertThat(stats.getAvailableMinutes()).isEqualTo(0);
+        assertThat(stats.getLastCount()).isEqualTo(3);
+    }
+
+    @Test
+    void countsCarriedMinutesInWindow() {
+        buffer.record(HOSPITAL, BASE, 1);
+        buffer.record(HOSPITAL, BASE + 1 + BedRingBuffer.CARRY_MINUTES, 1);
+        buffer.record(HOSPITAL, BASE + 4 + 2 * BedRingBuffer.CARRY_MINUTES, 1);
+
+        BedWindowStats stats = buffer.findStats(HOSPITAL);
+        assertThat(stats.getSampleCount()).isEqualTo(BedRingBuffer.CARRY_MINUTES + 3);
+        assertThat(stats.getAvailableMinutes()).isEqualTo(BedRingBuffer.CARRY_MINUTES + 3);
+    }
+
+    @Test
+    void resetsWindowAfterLongPause() {
+        buffer.record(HOSPITAL, BASE, 1);
+        buffer.record(HOSPITAL, BASE + 1, 1);
+        buffer.record(HOSPITAL, BASE + 10 * BedRingBuffer.WINDOW, 0);
+
+        BedWindowStats stats = buffer.findStats(HOSPITAL);
+        assertThat(stats.getSampleCount()).isEqualTo(1);
+        assertThat(stats.getAvailableMinutes()).isEqualTo(0);
+    }
+
+    @Test
+    void readersNeverSeeCountFromAnotherMinute() throws InterruptedException {
+        int minutes = 20_000;
+        AtomicBoolean mismatch = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < minutes; i++) {
+                int minute = BASE + (i * 7919) % minutes;
+                Integer count = buffer.findLatest(HOSPITAL, minute, minute);
+                if (count != null && count != minute - BASE) mismatch.set(true);
+            }
+        });
+
+        reader.start();
+        for (int i = 0; i < minutes; i++) {
+            buffer.record(HOSPITAL, BASE + i, i);
+        }
+        reader.join();
+
+        assertThat(mismatch.get()).isFalse();
+    }
+}
@@ -0,0 +1,158 @@
+package com.finder.tracker;
+
+import com.finder.domain.BedRollup;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BedRollupAggregatorTest {
+    private static final long HOSPITAL = 1L;
+
+    // 1시간 구간 시작 시각 (epoch 기준 분)
+    private static final int BASE = 28_000_020;
+
+    private final BedRollupAggregator aggregator = new BedRollupAggregator(null, null);
+
+    private final int[] boundaryCounts = new int[8];
+
+    private final int[] availableMinutes = new int[8];
+
+    @Test
+    void closesQuarterWhenNextQuarterStarts() {
+        for (int i = 0; i < BedRollup.QUARTER; i++) {
+            aggregator.add(HOSPITAL, BASE + i, (i < 5) ? 0 : 2);
+        }
+        assertThat(aggregator.drainClosed()).isEmpty();
+
+        aggregator.add(HOSPITAL, BASE + BedRollup.QUARTER, 1);
+        List<BedRollup> closed = aggregator.drainClosed();
+
+        assertThat(closed).hasSize(1);
+        BedRollup quarter = closed.get(0);
+        assertThat(quarter.getBucketSize()).isEqualTo(BedRollup.QUARTER);
+        assertThat(quarter.getBucketMinute()).isEqualTo(BASE);
+        assertThat(quarter.getBoundaryCount()).isEqualTo(0);
+        assertThat(quarter.getAvailableMinutes()).isEqualTo(10);
+        assertThat(quarter.getSampleCount()).isEqualTo(BedRollup.QUARTER);
+        assertThat(aggregator.drainClosed()).isEmpty();
+    }
+
+    @Test
+    void closesHourWithItsQuarters() {
+        for (int i = 0; i < BedRollup.HOUR; i++) {
+            aggregator.add(HOSPITAL, BASE + i, (i < BedRollup.QUARTER) ? 0 : 1);
+        }
+        List<BedRollup> closed = aggregator.drainClosed();
+        assertThat(closed).hasSize(3);
+
+        aggregator.add(HOSPITAL, BASE + BedRollup.HOUR, 2);
+        closed = aggregator.drainClosed();
+
+        assertThat(closed).hasSize(2);
+        BedRollup quarter = closed.get(0);
+        assertThat(quarter.getBucketSize()).isEqualTo(BedRollup.QUARTER);
+        assertThat(quarter.getBucketMinute()).isEqualTo(BASE + BedRollup.HOUR - BedRollup.QUARTER);
+        BedRollup hour = closed.get(1);
+        assertThat(hour.getBucketSize()).isEqualTo(BedRollup.HOUR);
+        assertThat(hour.getBucketMinute()).isEqualTo(BASE);
+        assertThat(hour.getBoundaryCount()).isEqualTo(0);
+        assertThat(hour.getAvailableMinutes()).isEqualTo(BedRollup.HOUR - BedRollup.QUARTER);
+        assertThat(hour.getSampleCount()).isEqualTo(BedRollup.HOUR);
+    }
+
+    @Test
+    void carriesShortGapsIntoQuarter() {
+        aggregator.add(HOSPITAL, BASE, 3);
+        aggregator.add(HOSPITAL, BASE + 1 + BedRingBuffer.CARRY_MINUTES, 3);
+        aggregator.add(HOSPITAL, BASE + BedRollup.QUARTER, 0);
+
+        BedRollup quarter = aggregator.drainClosed().get(0);
+
+        assertThat(quarter.getSampleCount()).isEqualTo(BedRingBuffer.CARRY_MINUTES + 2);
+        assertThat(quarter.getAvailableMinutes()).isEqualTo(BedRingBuffer.CARRY_MINUTES + 2);
+    }
+
+    @Test
+    void boundaryIsZeroWhenQuarterStartIsMissing() {
+        aggregator.add(HOSPITAL, BASE + 5, 4);
+        aggregator.add(HOSPITAL, BASE + BedRollup.QUARTER + 5, 6);
+
+        BedRollup first = aggregator.drainClosed().get(0);
+        int found = aggregator.findQuarters(HOSPITAL, BASE, 2, boundaryCounts, availableMinutes);
+
+        assertThat(first.getBoundaryCount()).isEqualTo(0);
+        assertThat(found).isEqualTo(2);
+        assertThat(boundaryCounts[0]).isEqualTo(0);
+        assertThat(boundaryCounts[1]).isEqualTo(0);
+        assertThat(availableMinutes[1]).isEqualTo(1);
+    }
+
+    @Test
+    void marksQuartersWithoutDataAsMissing() {
+        aggregator.add(HOSPITAL, BASE, 2);
+        aggregator.add(HOSPITAL, BASE + 2 * BedRollup.QUARTER, 2);
+
+        int found = aggregator.findQuarters(HOSPITAL, BASE, 3, boundaryCounts, availableMinutes);
+
+        assertThat(found).isEqualTo(2);
+        assertThat(availableMinutes[0]).isEqualTo(1);
+        assertThat(availableMinutes[1]).isEqualTo(BedRollupAggregator.MISSING);
+        // 아직 마감되지 않은 현재 구간
+        assertThat(availableMinutes[2]).isEqualTo(1);
+        assertThat(boundaryCounts[2]).isEqualTo(2);
+
+        assertThat(aggregator.findQuarters(2L, BASE, 3, boundaryCounts, availableMinutes)).isEqualTo(0);
+        assertThat(availableMinutes[0]).isEqualTo(BedRollupAggregator.MISSING);
+    }
+
+    @Test
+    void ignoresMinutesAlreadyAdded() {
+        aggregator.add(HOSPITAL, BASE + 1, 5);
+        aggregator.add(HOSPITAL, BASE + 1, 0);
+        aggregator.add(HOSPITAL, BASE, 7);
+
+        aggregator.findQuarters(HOSPITAL, BASE, 1, boundaryCounts, availableMinutes);
+
+        assertThat(availableMinutes[0]).isEqualTo(1);
+        assertThat(boundaryCounts[0]).isEqualTo(0);
+    }
+
+    @Test
+    void rawAggregationMatchesIngestAggregation() {
+        Random random = new Random(7);
+        int quarters = 8;
+        int toMinute = BASE + quarters * BedRollup.QUARTER;
+        int[] minutes = new int[quarters * BedRollup.QUARTER + 1];
+        int[] counts = new int[minutes.length];
+        int size = 0;
+        for (int minute = BASE; minute < toMinute; minute++) {
+            // 짧은 누락, 긴 누락이 섞이도록 연속 구간으로 건너뜀
+            if (random.nextInt(100) < 10) {
+                minute += random.nextInt(6);
+                continue;
+            }
+            minutes[size] = minute;
+            counts[size] = random.nextInt(4) - 1;
+            aggregator.add(HOSPITAL, minute, counts[size]);
+            size++;
+        }
+        // 마지막 구간까지 마감 (마감 시각 직전의 누락 보정이 같도록 원본에도 포함)
+        minutes[size] = toMinute;
+        counts[size] = 0;
+        aggregator.add(HOSPITAL, minutes[size], counts[size]);
+        size++;
+
+        int[] rawBoundaryCounts = new int[quarters];
+        int[] rawAvailableMinutes = new int[quarters];
+        int rawFound = BedSeries.aggregateQuarters(minutes, counts, size, BASE, quarters, rawBoundaryCounts, rawAvailableMinutes);
+        int found = aggregator.findQuarters(HOSPITAL, BASE, quarters, boundaryCounts, availableMinutes);
+
+        assertThat(rawFound).isEqualTo(found);
+        for (int i = 0; i < quarters; i++) {
+            assertThat(rawBoundaryCounts[i]).isEqualTo(boundaryCounts[i]);
+            assertThat(rawAvailableMinutes[i]).isEqualTo(Math.max(0, availableMinutes[i]));
+        }
+    }
+}